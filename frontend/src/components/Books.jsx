@@ -18,7 +18,7 @@ function Books() {
     description: ''
   });
   const [searchTerm, setSearchTerm] = useState('');
-  const [searchType, setSearchType] = useState('title');
+  const [searchType, setSearchType] = useState('all');
   const navigate = useNavigate();
   const admin = authService.getCurrentAdmin();
 
@@ -49,7 +49,9 @@ function Books() {
     try {
       setLoading(true);
       let data;
-      if (searchType === 'title') {
+      if (searchType === 'all') {
+        data = (await bookService.searchBooks(searchTerm)).content;
+      } else if (searchType === 'title') {
         data = await bookService.searchBooksByTitle(searchTerm);
       } else {
         data = await bookService.searchBooksByAuthor(searchTerm);
@@ -161,12 +163,13 @@ function Books() {
             onChange={(e) => setSearchType(e.target.value)}
             className="search-type-select"
           >
+            <option value="all">Search All Fields</option>
             <option value="title">Search by Title</option>
             <option value="author">Search by Author</option>
           </select>
           <input
             type="text"
-            placeholder={`Search by ${searchType}...`}
+            placeholder={searchType === 'all' ? 'Search title, author, description...' : `Search by ${searchType}...`}
             value={searchTerm}
             onChange={(e) => setSearchTerm(e.target.value)}
             onKeyPress={(e) => e.key === 'Enter' && handleSearch()}
@@ -11,6 +11,12 @@ class BookService {
     return response.data;
   }
 
+  // Ranked search over title, author and description (one page of results)
+  async searchBooks(query, page = 0, size = 50) {
+    const response = await api.get('/admin/books/search', { params: { q: query, page, size } });
+    return response.data;
+  }
+
   async searchBooksByTitle(keyword) {
     const response = await api.get(`/admin/books/search/title?keyword=${keyword}`);
     return response.data;
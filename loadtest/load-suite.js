@@ -0,0 +1,151 @@
+// End-to-end load suite: member login, admin participation search and member
+// weekly-record updates against a seeded database.
+//
+// Normally driven by Maven, which boots the app on an in-memory H2 (PostgreSQL
+// mode) seeded by LoadTestDataSeeder, runs this script and stops the app:
+//
+//   ./mvnw -Ploadtest verify -DskipTests
+//
+// The report is written to target/loadtest-report.md (percentiles and
+// throughput per endpoint) and target/loadtest-summary.json (raw k6 summary).
+// To run it by hand: start the app with SPRING_PROFILES_ACTIVE=loadtest and
+// `k6 run loadtest/load-suite.js`.
+//
+// Environment: BASE_URL (default http://localhost:8080), MEMBERS (number of
+// seeded members, default 200), VUS, DURATION, REPORT_DIR.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MEMBERS = parseInt(__ENV.MEMBERS || '200');
+const VUS = parseInt(__ENV.VUS || '20');
+const DURATION = __ENV.DURATION || '60s';
+const REPORT_DIR = __ENV.REPORT_DIR || 'target';
+const ENDPOINTS = ['user-login', 'participation-search', 'record-update'];
+
+export const options = {
+  scenarios: {
+    login: {
+      executor: 'constant-vus',
+      exec: 'login',
+      vus: Math.max(1, Math.floor(VUS / 4)),
+      duration: DURATION,
+    },
+    search: {
+      executor: 'constant-vus',
+      exec: 'search',
+      vus: VUS,
+      duration: DURATION,
+    },
+    recordUpdate: {
+      executor: 'constant-vus',
+      exec: 'recordUpdate',
+      vus: Math.max(1, Math.floor(VUS / 2)),
+      duration: DURATION,
+    },
+  },
+  // Per-endpoint thresholds make k6 keep a separate trend for each tag
+  thresholds: Object.fromEntries(ENDPOINTS.flatMap((e) => [
+    [`http_req_duration{endpoint:${e}}`, ['p(99)<5000']],
+    [`http_reqs{endpoint:${e}}`, ['count>0']],
+    [`http_req_failed{endpoint:${e}}`, ['rate<0.05']],
+  ])),
+  summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+const jsonHeaders = { 'Content-Type': 'application/json' };
+
+function memberName(index) {
+  return `Load Member ${String(index).padStart(4, '0')}`;
+}
+
+function memberLogin(index, tags) {
+  return http.post(`${BASE_URL}/api/user/login`, JSON.stringify({
+    username: memberName(index),
+    password: 'password123',
+  }), { headers: jsonHeaders, tags: tags });
+}
+
+export function setup() {
+  const admin = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+    username: 'admin',
+    password: 'password123',
+  }), { headers: jsonHeaders });
+  check(admin, { 'admin login ok': (r) => r.status === 200 });
+  const adminToken = admin.json('token');
+
+  const semesters = http.get(`${BASE_URL}/api/admin/semesters`,
+    { headers: { Authorization: `Bearer ${adminToken}` } });
+  const semester = semesters.json().find((s) => s.name === 'Load Test Semester');
+
+  return { adminToken: adminToken, semesterId: semester.semesterId };
+}
+
+export function login() {
+  const res = memberLogin(1 + Math.floor(Math.random() * MEMBERS), { endpoint: 'user-login' });
+  check(res, { 'user login ok': (r) => r.status === 200 });
+}
+
+export function search(data) {
+  const res = http.get(
+    `${BASE_URL}/api/admin/participations/search?semesterId=${data.semesterId}` +
+    '&startDate=2000-01-01&endDate=2100-01-01&size=20',
+    { headers: { Authorization: `Bearer ${data.adminToken}` }, tags: { endpoint: 'participation-search' } });
+  check(res, { 'search ok': (r) => r.status === 200 });
+}
+
+// Each VU acts as one member: log in and list participations once, then keep
+// updating that member's weekly records
+let member = null;
+
+export function recordUpdate(data) {
+  if (member === null) {
+    const auth = memberLogin(1 + ((__VU - 1) % MEMBERS), { endpoint: 'record-update-setup' });
+    const personId = auth.json('adminId');
+    const headers = Object.assign({ Authorization: `Bearer ${auth.json('token')}` }, jsonHeaders);
+    const list = http.get(`${BASE_URL}/api/user/${personId}/participations?semesterId=${data.semesterId}`,
+      { headers: headers, tags: { endpoint: 'record-update-setup' } });
+    member = { headers: headers, participationIds: list.json().map((p) => p.participationId) };
+  }
+
+  const id = member.participationIds[Math.floor(Math.random() * member.participationIds.length)];
+  const res = http.put(`${BASE_URL}/api/user/participations/${id}/record`, JSON.stringify({
+    qt: Math.floor(Math.random() * 7),
+    reading: Math.floor(Math.random() * 36),
+    pray: Math.floor(Math.random() * 8),
+    memorize: Math.floor(Math.random() * 5),
+  }), { headers: member.headers, tags: { endpoint: 'record-update' } });
+  check(res, { 'record update ok': (r) => r.status === 200 });
+}
+
+function fmt(value) {
+  return value === undefined ? '-' : value.toFixed(1);
+}
+
+export function handleSummary(data) {
+  const seconds = data.state.testRunDurationMs / 1000;
+  const lines = [
+    '# Load test report',
+    '',
+    `Duration: ${seconds.toFixed(0)} s, VUs: ${VUS}, members: ${MEMBERS}`,
+    '',
+    '| Endpoint | Requests | Throughput (req/s) | Errors | p50 (ms) | p90 (ms) | p95 (ms) | p99 (ms) | max (ms) |',
+    '|---|---|---|---|---|---|---|---|---|',
+  ];
+  for (const endpoint of ENDPOINTS) {
+    const duration = data.metrics[`http_req_duration{endpoint:${endpoint}}`].values;
+    const count = data.metrics[`http_reqs{endpoint:${endpoint}}`].values.count;
+    lines.push(`| ${endpoint} | ${count} | ${(count / seconds).toFixed(1)} | ` +
+      `${(data.metrics[`http_req_failed{endpoint:${endpoint}}`].values.rate * 100).toFixed(2)}% | ` +
+      `${fmt(duration['p(50)'])} | ${fmt(duration['p(90)'])} | ${fmt(duration['p(95)'])} | ` +
+      `${fmt(duration['p(99)'])} | ${fmt(duration.max)} |`);
+  }
+  lines.push('', `Checks: ${data.metrics.checks.values.passes} passed, ${data.metrics.checks.values.fails} failed`, '');
+
+  const report = lines.join('\n');
+  return {
+    stdout: report,
+    [`${REPORT_DIR}/loadtest-report.md`]: report,
+    [`${REPORT_DIR}/loadtest-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}
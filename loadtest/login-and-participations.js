@@ -0,0 +1,70 @@
+// k6 load test for the login and participation endpoints.
+//
+// Run it twice against the same database, once per thread mode, and compare
+// http_reqs (throughput) and http_req_duration percentiles in the summaries:
+//
+//   ./mvnw spring-boot:run
+//   k6 run --summary-export=platform.json loadtest/login-and-participations.js
+//
+//   SPRING_PROFILES_ACTIVE=virtual-threads ./mvnw spring-boot:run
+//   k6 run --summary-export=virtual.json loadtest/login-and-participations.js
+//
+// Environment: BASE_URL (default http://localhost:8080), USER_NAME / USER_PASSWORD
+// for member login, ADMIN_USERNAME / ADMIN_PASSWORD for the admin token,
+// SEMESTER_ID, VUS and DURATION.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '50');
+const DURATION = __ENV.DURATION || '60s';
+
+export const options = {
+  scenarios: {
+    login: {
+      executor: 'constant-vus',
+      exec: 'login',
+      vus: Math.max(1, Math.floor(VUS / 5)),
+      duration: DURATION,
+    },
+    participations: {
+      executor: 'constant-vus',
+      exec: 'participations',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+const jsonHeaders = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+    username: __ENV.ADMIN_USERNAME || 'admin',
+    password: __ENV.ADMIN_PASSWORD || 'password123',
+  }), jsonHeaders);
+  check(res, { 'admin login ok': (r) => r.status === 200 });
+  return { token: res.json('token') };
+}
+
+export function login() {
+  const res = http.post(`${BASE_URL}/api/user/login`, JSON.stringify({
+    username: __ENV.USER_NAME || 'John Doe',
+    password: __ENV.USER_PASSWORD || 'password123',
+  }), Object.assign({ tags: { endpoint: 'user-login' } }, jsonHeaders));
+  check(res, { 'user login ok': (r) => r.status === 200 });
+}
+
+export function participations(data) {
+  const params = {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { endpoint: 'participation-search' },
+  };
+  const semesterId = __ENV.SEMESTER_ID || '1';
+  const res = http.get(
+    `${BASE_URL}/api/admin/participations/search?semesterId=${semesterId}` +
+    '&startDate=2000-01-01&endDate=2100-01-01&size=20',
+    params);
+  check(res, { 'search ok': (r) => r.status === 200 });
+}
@@ -0,0 +1,78 @@
+#!/usr/bin/env sh
+# Smoke test for the native image: boots target/sample with the production configuration
+# against a real PostgreSQL database, checks health and admin login, and reports startup time
+# and resident memory. The native profile does not bundle H2, so the database is required.
+#
+#   ./mvnw -Pnative native:compile -DskipTests
+#   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/sample \
+#   SPRING_DATASOURCE_USERNAME=postgres SPRING_DATASOURCE_PASSWORD=... \
+#   loadtest/native-smoke.sh            # or: loadtest/native-smoke.sh path/to/binary
+#
+# Use a scratch database: Flyway migrates it and DataInitializer creates the default admin.
+# SMOKE_USERNAME / SMOKE_PASSWORD override the login (default: the initializer's admin).
+#
+# The report is also written to target/native-smoke.txt.
+set -eu
+
+BINARY="${1:-target/sample}"
+PORT="${PORT:-8080}"
+SMOKE_USERNAME="${SMOKE_USERNAME:-admin}"
+SMOKE_PASSWORD="${SMOKE_PASSWORD:-password123}"
+BASE_URL="http://localhost:$PORT"
+LOG=target/native-smoke.log
+REPORT=target/native-smoke.txt
+
+if [ ! -x "$BINARY" ]; then
+  echo "Native binary not found at $BINARY (build it with ./mvnw -Pnative native:compile)" >&2
+  exit 1
+fi
+if [ -z "${SPRING_DATASOURCE_URL:-}" ] || [ -z "${SPRING_DATASOURCE_USERNAME:-}" ]; then
+  echo "Set SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME and SPRING_DATASOURCE_PASSWORD" >&2
+  echo "to a PostgreSQL database for the smoke test" >&2
+  exit 1
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+start=$(now_ms)
+"$BINARY" --server.port="$PORT" >"$LOG" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+# Time until /health answers, polling every 10 ms for up to 30 s
+ready=""
+i=0
+while [ $i -lt 3000 ]; do
+  if curl -fs "$BASE_URL/health" >/dev/null 2>&1; then
+    ready=$(now_ms)
+    break
+  fi
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "Native binary exited during startup, see $LOG" >&2
+    exit 1
+  fi
+  sleep 0.01
+  i=$((i + 1))
+done
+if [ -z "$ready" ]; then
+  echo "Native binary did not become healthy within 30 s, see $LOG" >&2
+  exit 1
+fi
+
+login_status=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+  -d "{\"username\":\"$SMOKE_USERNAME\",\"password\":\"$SMOKE_PASSWORD\"}" "$BASE_URL/api/auth/login")
+
+rss_kb=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status" 2>/dev/null || ps -o rss= -p "$pid")
+reported=$(grep -o 'Started SampleApplication in [0-9.]* seconds' "$LOG" || echo "n/a")
+
+{
+  echo "Native smoke test ($BINARY)"
+  echo "  time to healthy:  $((ready - start)) ms"
+  echo "  spring reported:  $reported"
+  echo "  RSS after login:  $((rss_kb / 1024)) MB"
+  echo "  login as $SMOKE_USERNAME: HTTP $login_status"
+} | tee "$REPORT"
+
+[ "$login_status" = "200" ]
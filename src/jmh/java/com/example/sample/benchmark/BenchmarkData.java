@@ -0,0 +1,51 @@
+package com.example.sample.benchmark;
+
+import com.example.sample.model.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// In-memory entity graphs shaped like one member's (or one semester's) participations
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Person person(int id) {
+        Person person = new Person("Member " + id, "$2a$10$abcdefghijklmnopqrstuv");
+        person.setPersonId(id);
+        return person;
+    }
+
+    static List<Participation> participations(Person person, int semesters, int groupsPerSemester, int weeks) {
+        List<Participation> participations = new ArrayList<>();
+        int participationId = 1;
+        for (int s = 1; s <= semesters; s++) {
+            Semester semester = new Semester("Semester " + s, LocalDate.of(2020 + s, 3, 1), LocalDate.of(2020 + s, 6, 30));
+            semester.setSemesterId(s);
+            for (int g = 1; g <= groupsPerSemester; g++) {
+                Group group = new Group("Group " + s + "-" + g);
+                group.setGroupId(s * 100 + g);
+                for (int w = 1; w <= weeks; w++) {
+                    Participation participation = new Participation(w % 5 == 0 ? "late" : "ontime");
+                    participation.setParticipationId(participationId++);
+                    participation.setSemester(semester);
+                    participation.setGroup(group);
+                    participation.setPerson(person);
+                    participation.setParticipationDate(semester.getSdate().plusWeeks(w - 1));
+
+                    WeeklyRecord record = new WeeklyRecord(w, "ontime", "late", true, false, 5, 30, 6, 3);
+                    record.setRecordId(participation.getParticipationId());
+                    record.setFine(w % 5 == 0 ? 1000 : 0);
+                    record.setSubmittedDate(participation.getParticipationDate());
+                    record.setParticipation(participation);
+                    participation.setWeeklyRecord(record);
+
+                    participations.add(participation);
+                }
+            }
+        }
+        return participations;
+    }
+}
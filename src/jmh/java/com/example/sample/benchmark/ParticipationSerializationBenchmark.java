@@ -0,0 +1,42 @@
+package com.example.sample.benchmark;
+
+import com.example.sample.model.Participation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson cost of the participation list endpoints (full entity graphs)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipationSerializationBenchmark {
+
+    @Param({"20", "500"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Participation> participations;
+
+    @Setup
+    public void setUp() {
+        // Same modules and date format Spring Boot configures for the REST controllers
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        participations = BenchmarkData.participations(BenchmarkData.person(1), 1, 1, rows);
+    }
+
+    @Benchmark
+    public byte[] serializeParticipations() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(participations);
+    }
+}
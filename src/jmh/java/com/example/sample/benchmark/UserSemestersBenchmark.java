@@ -0,0 +1,71 @@
+package com.example.sample.benchmark;
+
+import com.example.sample.controller.UserController;
+import com.example.sample.model.Participation;
+import com.example.sample.model.Person;
+import com.example.sample.security.JwtUtil;
+import com.example.sample.service.ParticipationService;
+import com.example.sample.service.PersonService;
+import com.example.sample.service.WeeklyRecordService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Response building in UserController.getUserSemesters, with the database calls stubbed out
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSemestersBenchmark {
+
+    private UserController userController;
+
+    @Setup
+    public void setUp() {
+        Person person = BenchmarkData.person(1);
+        List<Participation> participations = BenchmarkData.participations(person, 4, 2, 16);
+
+        userController = new UserController(
+                new StubPersonService(person),
+                new StubParticipationService(participations),
+                new WeeklyRecordService(null, null, null),
+                new JwtUtil("benchmark-secret-key-that-is-at-least-256-bits-long!!", 86400000L));
+    }
+
+    @Benchmark
+    public Object getUserSemesters() {
+        return userController.getUserSemesters(1);
+    }
+
+    static class StubPersonService extends PersonService {
+        private final Person person;
+
+        StubPersonService(Person person) {
+            super(null, null, null);
+            this.person = person;
+        }
+
+        @Override
+        public Optional<Person> getPersonById(Integer id) {
+            return Optional.of(person);
+        }
+    }
+
+    static class StubParticipationService extends ParticipationService {
+        private final List<Participation> participations;
+
+        StubParticipationService(List<Participation> participations) {
+            super(null, null, null, null, null);
+            this.participations = participations;
+        }
+
+        @Override
+        public List<Participation> getParticipationsByPerson(Integer personId) {
+            return participations;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sample.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Reference data read on every admin page load but changed a few times per term
+    public static final String SEMESTERS = "semesters";
+    public static final String GROUPS = "groups";
+    public static final String BOOKS = "books";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.reference-data.ttl-minutes:60}") long ttlMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(SEMESTERS, GROUPS, BOOKS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(100)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+
+        // Defer evictions until the surrounding transaction commits, so a concurrent
+        // read cannot re-cache rows that are about to change
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.sample.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Conditional GET for handlers annotated with @VersionedBy. The ETag is computed from the
+// aggregate versions before the handler runs, so an unchanged list costs no query at all.
+// Cache-Control is set here because Spring Security otherwise sends no-store, which stops
+// browsers from keeping the body to revalidate (its header writer skips responses that
+// already carry Cache-Control).
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final DataVersions dataVersions;
+
+    @Autowired
+    public ConditionalGetInterceptor(DataVersions dataVersions) {
+        this.dataVersions = dataVersions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        VersionedBy versionedBy = handlerMethod.getMethodAnnotation(VersionedBy.class);
+        if (versionedBy == null) {
+            return true;
+        }
+
+        String etag = dataVersions.etag(versionedBy.value());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+
+        // Sets the ETag header, and the 304 status when If-None-Match matches
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.sample.config;
 import com.example.sample.model.*;
 import com.example.sample.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -27,8 +28,16 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    // Production turns this off: the defaults exist already and the check costs a query on every boot
+    @Value("${app.data-initializer.enabled:true}")
+    private boolean enabled;
+
     @Override
     public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+
         // Check if data already exists
         if (adminRepository.count() > 0) {
             System.out.println("Data already initialized. Skipping...");
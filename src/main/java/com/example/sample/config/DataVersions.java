@@ -0,0 +1,66 @@
+package com.example.sample.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// In-memory version counter per aggregate, bumped by the service write methods and turned into
+// weak ETags for the read endpoints (see VersionedBy / ConditionalGetInterceptor). The epoch is
+// random per process, so tags issued before a restart (or by another instance) never match.
+// Writes that bypass the services (SQL run directly against the database) are only picked up
+// after a restart.
+@Component
+public class DataVersions {
+
+    public enum Aggregate {
+        ADMINS,
+        ASSIGNMENTS,
+        BOOKS,
+        GROUPS,
+        // participations together with their weekly records, which are serialized inside them
+        PARTICIPATIONS,
+        PERSONS,
+        SEMESTERS,
+        TRANSACTIONS,
+        USER_BOOKS
+    }
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLongArray versions = new AtomicLongArray(Aggregate.values().length);
+
+    // Bump once the surrounding transaction commits. Bumping earlier would let a concurrent read
+    // tag the old rows with the new version and keep them cached after the write.
+    public void bump(Aggregate... aggregates) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(aggregates);
+                }
+            });
+        } else {
+            increment(aggregates);
+        }
+    }
+
+    public long version(Aggregate aggregate) {
+        return versions.get(aggregate.ordinal());
+    }
+
+    public String etag(Aggregate... aggregates) {
+        StringBuilder etag = new StringBuilder("W/\"").append(epoch);
+        for (Aggregate aggregate : aggregates) {
+            etag.append('-').append(version(aggregate));
+        }
+        return etag.append('"').toString();
+    }
+
+    private void increment(Aggregate[] aggregates) {
+        for (Aggregate aggregate : aggregates) {
+            versions.incrementAndGet(aggregate.ordinal());
+        }
+    }
+}
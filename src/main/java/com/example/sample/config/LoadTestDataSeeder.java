@@ -0,0 +1,158 @@
+package com.example.sample.config;
+
+import com.example.sample.model.*;
+import com.example.sample.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Seeds everything the load suite uses (loadtest profile only): the admin, the members and one
+// semester of participations. DataInitializer is switched off in this profile, so its demo
+// persons, groups and semesters are not created.
+@Component
+@Profile("loadtest")
+@Order(1)
+public class LoadTestDataSeeder implements CommandLineRunner {
+
+    public static final String MEMBER_PREFIX = "Load Member ";
+    public static final String ADMIN_USERNAME = "admin";
+    public static final String PASSWORD = "password123";
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private SemesterRepository semesterRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.seed.persons:200}")
+    private int personCount;
+
+    @Value("${loadtest.seed.groups:10}")
+    private int groupCount;
+
+    @Value("${loadtest.seed.weeks:16}")
+    private int weekCount;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!adminRepository.existsByUsername(ADMIN_USERNAME)) {
+            adminRepository.save(new Admin(ADMIN_USERNAME, "Load Test Administrator",
+                    passwordEncoder.encode(PASSWORD), "superadmin"));
+        }
+
+        if (personRepository.existsByNameIgnoreCase(memberName(1))) {
+            System.out.println("Load test data already seeded. Skipping...");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+
+        // BCrypt is deliberately slow; every member shares the same password, so hash it once
+        String password = passwordEncoder.encode(PASSWORD);
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= personCount; i++) {
+            persons.add(new Person(memberName(i), password));
+        }
+        persons = personRepository.saveAll(persons);
+
+        Semester semester = semesterRepository.save(new Semester(
+                "Load Test Semester",
+                LocalDate.of(2026, 3, 1),
+                LocalDate.of(2026, 3, 1).plusWeeks(weekCount)
+        ));
+
+        List<Group> groups = new ArrayList<>();
+        for (int g = 1; g <= groupCount; g++) {
+            groups.add(new Group(String.format("Load Group %02d", g)));
+        }
+        // Members are spread round-robin across the groups
+        for (int i = 0; i < persons.size(); i++) {
+            groups.get(i % groupCount).getPersons().add(persons.get(i));
+        }
+        groups = groupRepository.saveAll(groups);
+
+        semester.getGroups().addAll(groups);
+        semesterRepository.save(semester);
+
+        // One participation with a weekly record per member per week, saved in chunks so the
+        // persistence context stays small (records cascade from the participation)
+        List<Participation> batch = new ArrayList<>();
+        int participationCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Group group = groups.get(i % groupCount);
+            for (int week = 1; week <= weekCount; week++) {
+                batch.add(participation(semester, group, person, week, i));
+                if (batch.size() == 500) {
+                    participationRepository.saveAll(batch);
+                    participationCount += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        participationRepository.saveAll(batch);
+        participationCount += batch.size();
+
+        System.out.println("==============================================");
+        System.out.println("Load test data seeded in " + (System.currentTimeMillis() - started) + " ms");
+        System.out.println("  - Admin " + ADMIN_USERNAME + " / " + PASSWORD);
+        System.out.println("  - " + persons.size() + " Persons (" + memberName(1) + " .. " + memberName(personCount) + ")");
+        System.out.println("  - " + groups.size() + " Groups in semester " + semester.getSemesterId());
+        System.out.println("  - " + participationCount + " Participations with weekly records");
+        System.out.println("==============================================");
+    }
+
+    public static String memberName(int index) {
+        return MEMBER_PREFIX + String.format("%04d", index);
+    }
+
+    private Participation participation(Semester semester, Group group, Person person, int week, int seed) {
+        // Deterministic but uneven mix of statuses and scores
+        int roll = (seed * 31 + week * 7) % 20;
+        String status = roll < 14 ? "ontime" : roll < 18 ? "late" : "absent";
+
+        Participation participation = new Participation(status);
+        participation.setSemester(semester);
+        participation.setGroup(group);
+        participation.setPerson(person);
+        participation.setParticipationDate(semester.getSdate().plusWeeks(week - 1));
+
+        WeeklyRecord record = new WeeklyRecord(
+                week,
+                status.equals("absent") ? "absent" : "ontime",
+                roll % 5 == 0 ? "late" : "ontime",
+                roll % 3 != 0,
+                roll % 4 != 0,
+                roll % 7,
+                (roll * 3) % 36,
+                roll % 8,
+                roll % 5
+        );
+        record.setSubmittedDate(participation.getParticipationDate());
+        record.setFine(status.equals("ontime") ? 0 : status.equals("late") ? 1000 : 3000);
+        record.setParticipation(participation);
+        participation.setWeeklyRecord(record);
+        return participation;
+    }
+}
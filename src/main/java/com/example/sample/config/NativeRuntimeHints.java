@@ -0,0 +1,71 @@
+package com.example.sample.config;
+
+import com.example.sample.dto.*;
+import com.example.sample.model.*;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+// Reflection and resource hints for the GraalVM native image (-Pnative). Spring AOT cannot see
+// these on its own: controllers return ResponseEntity<?>, so the serialized entity and DTO types
+// are unknown at build time, and jjwt loads its implementation classes by name.
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Jackson (de)serializes these from/to request and response bodies
+    private static final Class<?>[] BOUND_TYPES = {
+            Admin.class, Book.class, Group.class, Participation.class, Person.class,
+            ReadingAssignment.class, Semester.class, SemesterUserBook.class, WeeklyRecord.class,
+            Transaction.class, TransactionSummary.class,
+            BulkParticipationRequest.class, BulkParticipationRequest.Entry.class,
+            BulkWeeklyRecordRequest.class, BulkWeeklyRecordRequest.Entry.class,
+            LoginRequest.class, LoginResponse.class, ParticipationCursorPage.class,
+            ParticipationSummary.class, RecordAggregate.class,
+            UserParticipation.class, UserParticipation.Record.class, UserSemestersResponse.class,
+            UserSemestersResponse.SemesterEntry.class, UserSemestersResponse.GroupEntry.class,
+            // Most endpoints build their bodies as maps
+            HashMap.class, LinkedHashMap.class
+    };
+
+    // jjwt-api instantiates these reflectively (Classes.newInstance / Classes.forName)
+    private static final String[] JJWT_IMPL_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+
+        for (String type : JJWT_IMPL_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        // jjwt finds its JSON serializer through ServiceLoader
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer");
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer");
+    }
+}
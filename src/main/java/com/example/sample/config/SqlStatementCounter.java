@@ -0,0 +1,24 @@
+package com.example.sample.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate StatementInspector that counts the SQL statements issued on the current thread.
+// SqlStatementCountFilter resets it at the start of every HTTP request and reads it at the end.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.sample.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk-generates a production-sized dataset for query plan and index testing (generator profile only).
+// Rows are written with batched JDBC and explicit ids, then the id sequences are moved past them.
+// Run against PostgreSQL with reWriteBatchedInserts=true so each batch becomes one multi-row INSERT.
+// Everything runs in one transaction, so a failed run leaves no partial dataset or moved sequences.
+// The demo defaults come from DataInitializer as usual (app.data-initializer.enabled).
+@Component
+@Profile("generator")
+@Order(1)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${generator.semesters:8}")
+    private int semesterCount;
+
+    @Value("${generator.groups-per-semester:10}")
+    private int groupsPerSemester;
+
+    @Value("${generator.persons:4000}")
+    private int personCount;
+
+    @Value("${generator.weeks:16}")
+    private int weekCount;
+
+    @Value("${generator.books-per-semester:5}")
+    private int booksPerSemester;
+
+    @Override
+    public void run(String... args) throws Exception {
+        transactionTemplate.executeWithoutResult(status -> generate());
+    }
+
+    private void generate() {
+        long started = System.currentTimeMillis();
+        System.out.println("Generating synthetic data: " + semesterCount + " semesters x " + groupsPerSemester
+                + " groups x " + personCount + " persons x " + weekCount + " weeks...");
+
+        int personBase = maxId("persons", "person_id");
+        int groupBase = maxId("\"groups\"", "group_id");
+        int semesterBase = maxId("semesters", "semester_id");
+        int bookBase = maxId("books", "book_id");
+        int participationBase = maxId("participations", "participation_id");
+        int recordBase = maxId("weekly_records", "record_id");
+        int userBookBase = maxId("semester_user_book", "id");
+
+        // BCrypt is deliberately slow; every generated member shares one password hash
+        String password = passwordEncoder.encode("password123");
+
+        Batch persons = new Batch("INSERT INTO persons (person_id, name, password) VALUES (?, ?, ?)");
+        for (int p = 1; p <= personCount; p++) {
+            persons.add(personBase + p, "Member " + (personBase + p), password);
+        }
+        persons.flush();
+
+        Batch semesters = new Batch("INSERT INTO semesters (semester_id, name, sdate, edate, is_break) VALUES (?, ?, ?, ?, ?)");
+        Batch groups = new Batch("INSERT INTO \"groups\" (group_id, group_name) VALUES (?, ?)");
+        Batch semesterGroups = new Batch("INSERT INTO semester_group (semester_id, group_id) VALUES (?, ?)");
+        Batch books = new Batch("INSERT INTO books (book_id, title, author, description) VALUES (?, ?, ?, ?)");
+        Batch semesterBooks = new Batch("INSERT INTO semester_book (semester_id, book_id) VALUES (?, ?)");
+        for (int s = 1; s <= semesterCount; s++) {
+            int semesterId = semesterBase + s;
+            LocalDate sdate = LocalDate.of(2010, 3, 1).plusMonths(6L * (s - 1));
+            semesters.add(semesterId, "Generated Semester " + semesterId,
+                    Date.valueOf(sdate), Date.valueOf(sdate.plusWeeks(weekCount)), false);
+            for (int g = 1; g <= groupsPerSemester; g++) {
+                int groupId = groupId(groupBase, s, g);
+                groups.add(groupId, "Generated Group " + groupId);
+                semesterGroups.add(semesterId, groupId);
+            }
+            for (int b = 1; b <= booksPerSemester; b++) {
+                int bookId = bookBase + (s - 1) * booksPerSemester + b;
+                books.add(bookId, "Generated Book " + bookId, "Author " + (bookId % 97), null);
+                semesterBooks.add(semesterId, bookId);
+            }
+        }
+        semesters.flush();
+        groups.flush();
+        semesterGroups.flush();
+        books.flush();
+        semesterBooks.flush();
+
+        // Every person attends one group per semester, every week, with a weekly record each week
+        Batch members = new Batch("INSERT INTO group_member (group_id, person_id) VALUES (?, ?)");
+        Batch participations = new Batch("INSERT INTO participations "
+                + "(participation_id, semester_id, group_id, person_id, status, participation_date) VALUES (?, ?, ?, ?, ?, ?)");
+        Batch records = new Batch("INSERT INTO weekly_records "
+                + "(record_id, participation_id, week_number, service1, service2, summary1, summary2, "
+                + "qt, reading, pray, memorize, submitted_date, fine) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        Batch userBooks = new Batch("INSERT INTO semester_user_book (id, semester_id, person_id, book_id, status, date) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        int participationId = participationBase;
+        int recordId = recordBase;
+        int userBookId = userBookBase;
+        for (int s = 1; s <= semesterCount; s++) {
+            int semesterId = semesterBase + s;
+            LocalDate sdate = LocalDate.of(2010, 3, 1).plusMonths(6L * (s - 1));
+            for (int p = 1; p <= personCount; p++) {
+                int personId = personBase + p;
+                int groupId = groupId(groupBase, s, 1 + (p + s) % groupsPerSemester);
+                members.add(groupId, personId);
+
+                for (int week = 1; week <= weekCount; week++) {
+                    LocalDate date = sdate.plusWeeks(week - 1);
+                    int roll = (p * 31 + week * 7 + s * 13) % 20;
+                    String status = roll < 14 ? "ontime" : roll < 18 ? "late" : "absent";
+                    participations.add(++participationId, semesterId, groupId, personId, status, Date.valueOf(date));
+                    records.add(++recordId, participationId, week,
+                            status.equals("absent") ? "absent" : "ontime", roll % 5 == 0 ? "late" : "ontime",
+                            roll % 3 != 0, roll % 4 != 0, roll % 7, (roll * 3) % 36, roll % 8, roll % 5,
+                            Date.valueOf(date), status.equals("ontime") ? 0 : status.equals("late") ? 1000 : 3000);
+                }
+
+                for (int b = 1; b <= booksPerSemester; b++) {
+                    int bookId = bookBase + (s - 1) * booksPerSemester + b;
+                    String status = (p + b) % 4 == 0 ? "Not submitted" : "submitted";
+                    userBooks.add(++userBookId, semesterId, personId, bookId, status,
+                            Date.valueOf(sdate.plusWeeks(Math.min(weekCount, b * 3L))));
+                }
+            }
+        }
+        members.flush();
+        participations.flush();
+        records.flush();
+        userBooks.flush();
+
+        resetSequences();
+
+        // Fresh planner statistics, otherwise the first EXPLAINs reflect the empty tables.
+        // PostgreSQL allows ANALYZE inside a transaction, and it sees the rows written above.
+        jdbcTemplate.execute("ANALYZE");
+
+        long rows = persons.count + semesters.count + groups.count + semesterGroups.count + books.count
+                + semesterBooks.count + members.count + participations.count + records.count + userBooks.count;
+        System.out.println("==============================================");
+        System.out.println("Synthetic data generated in " + (System.currentTimeMillis() - started) + " ms");
+        System.out.println("  - " + rows + " rows in total");
+        System.out.println("  - " + participations.count + " Participations, " + records.count + " Weekly records");
+        System.out.println("  - " + userBooks.count + " Semester user books");
+        System.out.println("  - Members log in as \"Member <personId>\" / password123");
+        System.out.println("==============================================");
+    }
+
+    private int groupId(int groupBase, int semester, int group) {
+        return groupBase + (semester - 1) * groupsPerSemester + group;
+    }
+
+    private int maxId(String table, String column) {
+        Integer max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private void resetSequences() {
+        // Identity columns: continue after the explicit ids written above
+        String[][] identities = {
+                {"persons", "person_id"}, {"\"groups\"", "group_id"}, {"semesters", "semester_id"},
+                {"books", "book_id"}, {"semester_user_book", "id"}
+        };
+        for (String[] identity : identities) {
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + identity[0] + "', '" + identity[1] + "'), "
+                    + "(SELECT MAX(" + identity[1] + ") FROM " + identity[0] + "))");
+        }
+        // Pooled sequences (allocationSize = 50), same as the participations_seq migration
+        jdbcTemplate.execute("SELECT setval('participations_seq', (SELECT MAX(participation_id) FROM participations) + 50)");
+        jdbcTemplate.execute("SELECT setval('weekly_records_seq', (SELECT MAX(record_id) FROM weekly_records) + 50)");
+    }
+
+    // Buffers rows for one INSERT and sends them BATCH_SIZE at a time
+    private class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long count;
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            count += rows.size();
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.sample.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a GET handler whose response only changes when one of these aggregates is written.
+// ConditionalGetInterceptor answers a matching If-None-Match with 304 before the handler runs.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedBy {
+
+    DataVersions.Aggregate[] value();
+}
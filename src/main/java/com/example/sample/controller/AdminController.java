@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.Admin;
 import com.example.sample.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +25,7 @@ public class AdminController {
     }
 
     // Get all active admins (is_delete = false)
+    @VersionedBy(Aggregate.ADMINS)
     @GetMapping("/list")
     public ResponseEntity<List<Admin>> getAllAdmins() {
         List<Admin> admins = adminService.getAllAdmins();
@@ -30,12 +33,13 @@ public class AdminController {
     }
 
     // Get admin by ID
+    @VersionedBy(Aggregate.ADMINS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getAdminById(@PathVariable Integer id) {
         try {
             Admin admin = adminService.getAdminById(id);
             return ResponseEntity.ok(admin);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(createErrorResponse(e.getMessage()));
         }
@@ -47,7 +51,7 @@ public class AdminController {
         try {
             Admin createdAdmin = adminService.createAdmin(admin);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdAdmin);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(createErrorResponse(e.getMessage()));
         }
@@ -59,7 +63,7 @@ public class AdminController {
         try {
             Admin updatedAdmin = adminService.updateAdmin(admin);
             return ResponseEntity.ok(updatedAdmin);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(createErrorResponse(e.getMessage()));
@@ -78,7 +82,7 @@ public class AdminController {
             response.put("success", true);
             response.put("message", "Admin deleted successfully");
             return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(createErrorResponse(e.getMessage()));
@@ -102,7 +106,7 @@ public class AdminController {
 
             return ResponseEntity.ok(response);
 
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             Map<String, Object> errorResponse = createErrorResponse(e.getMessage());
 
             // Return appropriate status code
@@ -119,7 +123,7 @@ public class AdminController {
         try {
             Admin admin = adminService.restoreAdmin(id);
             return ResponseEntity.ok(admin);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(createErrorResponse(e.getMessage()));
@@ -130,6 +134,7 @@ public class AdminController {
     }
 
     // Get deleted admins (optional)
+    @VersionedBy(Aggregate.ADMINS)
     @GetMapping("/deleted")
     public ResponseEntity<List<Admin>> getDeletedAdmins() {
         List<Admin> admins = adminService.getDeletedAdmins();
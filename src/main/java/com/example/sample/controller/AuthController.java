@@ -42,7 +42,7 @@ public class AuthController {
             );
 
             return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("deleted")) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(createErrorResponse("Account has been deleted"));
@@ -62,7 +62,7 @@ public class AuthController {
             response.put("adminId", createdAdmin.getId());
             response.put("username", createdAdmin.getUsername());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(createErrorResponse(e.getMessage()));
         }
@@ -1,8 +1,12 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.Book;
+import com.example.sample.service.BookSearchService;
 import com.example.sample.service.BookService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,18 +20,22 @@ import java.util.Map;
 public class BookController {
 
     private final BookService bookService;
+    private final BookSearchService bookSearchService;
 
     @Autowired
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, BookSearchService bookSearchService) {
         this.bookService = bookService;
+        this.bookSearchService = bookSearchService;
     }
 
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping
     public ResponseEntity<List<Book>> getAllBooks() {
         List<Book> books = bookService.getAllBooks();
         return ResponseEntity.ok(books);
     }
 
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getBookById(@PathVariable Integer id) {
         return bookService.getBookById(id)
@@ -36,6 +44,7 @@ public class BookController {
                         .body(createErrorResponse("Book not found with id: " + id)));
     }
 
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping("/title/{title}")
     public ResponseEntity<?> getBookByTitle(@PathVariable String title) {
         return bookService.getBookByTitle(title)
@@ -44,18 +53,37 @@ public class BookController {
                         .body(createErrorResponse("Book not found with title: " + title)));
     }
 
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping("/author/{author}")
     public ResponseEntity<List<Book>> getBooksByAuthor(@PathVariable String author) {
         List<Book> books = bookService.getBooksByAuthor(author);
         return ResponseEntity.ok(books);
     }
 
+    // Ranked search across title, author and description; every word must match (as a prefix)
+    @VersionedBy(Aggregate.BOOKS)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBooks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<Book> books = bookSearchService.search(q, page, size);
+            return ResponseEntity.ok(books);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping("/search/title")
     public ResponseEntity<List<Book>> searchBooksByTitle(@RequestParam String keyword) {
         List<Book> books = bookService.searchBooksByTitle(keyword);
         return ResponseEntity.ok(books);
     }
 
+    @VersionedBy(Aggregate.BOOKS)
     @GetMapping("/search/author")
     public ResponseEntity<List<Book>> searchBooksByAuthor(@RequestParam String keyword) {
         List<Book> books = bookService.searchBooksByAuthor(keyword);
@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.Group;
 import com.example.sample.model.Person;
 import com.example.sample.service.GroupService;
@@ -25,6 +27,7 @@ public class GroupController {
     }
 
     // Get all groups
+    @VersionedBy(Aggregate.GROUPS)
     @GetMapping
     public ResponseEntity<List<Group>> getAllGroups() {
         List<Group> groups = groupService.getAllGroups();
@@ -32,6 +35,7 @@ public class GroupController {
     }
 
     // Get group by id
+    @VersionedBy(Aggregate.GROUPS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getGroupById(@PathVariable Integer id) {
         return groupService.getGroupById(id)
@@ -41,6 +45,7 @@ public class GroupController {
     }
 
     // Get group by name
+    @VersionedBy(Aggregate.GROUPS)
     @GetMapping("/name/{groupName}")
     public ResponseEntity<?> getGroupByName(@PathVariable String groupName) {
         return groupService.getGroupByName(groupName)
@@ -89,6 +94,7 @@ public class GroupController {
     }
 
     // Get all persons in a group
+    @VersionedBy({Aggregate.GROUPS, Aggregate.PERSONS})
     @GetMapping("/{id}/persons")
     public ResponseEntity<?> getGroupMembers(@PathVariable Integer id) {
         try {
@@ -1,5 +1,10 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
+import com.example.sample.dto.BulkParticipationRequest;
+import com.example.sample.dto.ParticipationCursorPage;
+import com.example.sample.dto.ParticipationSummary;
 import com.example.sample.model.Participation;
 import com.example.sample.service.ParticipationService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,12 +33,26 @@ public class ParticipationController {
         this.participationService = participationService;
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping
     public ResponseEntity<List<Participation>> getAllParticipations() {
         List<Participation> participations = participationService.getAllParticipations();
         return ResponseEntity.ok(participations);
     }
 
+    // Flat list for admin screens (optional semester/group/person filters)
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
+    @GetMapping("/summary")
+    public ResponseEntity<List<ParticipationSummary>> getParticipationSummaries(
+            @RequestParam(required = false) Integer semesterId,
+            @RequestParam(required = false) Integer groupId,
+            @RequestParam(required = false) Integer personId) {
+        List<ParticipationSummary> summaries = participationService.getParticipationSummaries(
+            semesterId, groupId, personId);
+        return ResponseEntity.ok(summaries);
+    }
+
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/{id}")
     public ResponseEntity<?> getParticipationById(@PathVariable Integer id) {
         return participationService.getParticipationById(id)
@@ -42,18 +61,21 @@ public class ParticipationController {
                         .body(createErrorResponse("Participation not found with id: " + id)));
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/semester/{semesterId}")
     public ResponseEntity<List<Participation>> getParticipationsBySemester(@PathVariable Integer semesterId) {
         List<Participation> participations = participationService.getParticipationsBySemester(semesterId);
         return ResponseEntity.ok(participations);
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/group/{groupId}")
     public ResponseEntity<List<Participation>> getParticipationsByGroup(@PathVariable Integer groupId) {
         List<Participation> participations = participationService.getParticipationsByGroup(groupId);
         return ResponseEntity.ok(participations);
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/person/{personId}")
     public ResponseEntity<List<Participation>> getParticipationsByPerson(@PathVariable Integer personId) {
         List<Participation> participations = participationService.getParticipationsByPerson(personId);
@@ -76,6 +98,18 @@ public class ParticipationController {
         }
     }
 
+    // Create a whole group's attendance for one date in a single request
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createParticipations(@RequestBody BulkParticipationRequest request) {
+        try {
+            List<Participation> createdParticipations = participationService.createParticipations(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdParticipations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateParticipation(@PathVariable Integer id, @RequestBody Participation participationDetails) {
         try {
@@ -102,6 +136,7 @@ public class ParticipationController {
     }
 
     // Search with filters and pagination
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/search")
     public ResponseEntity<?> searchParticipations(
             @RequestParam(required = false) Integer semesterId,
@@ -112,7 +147,10 @@ public class ParticipationController {
             @RequestParam(required = true) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "participationDate,desc") String sort) {
+            @RequestParam(defaultValue = "participationDate,desc") String sort,
+            @RequestParam(defaultValue = "false") boolean keyset,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
         // Validate that startDate is not after endDate
         if (startDate.isAfter(endDate)) {
@@ -124,6 +162,19 @@ public class ParticipationController {
         Sort.Direction direction = sortParams.length > 1 &&
             sortParams[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
 
+        // Cursor mode: always ordered by (participationDate, participationId); only the direction is taken from sort
+        if (keyset || cursor != null) {
+            try {
+                ParticipationCursorPage result = participationService.searchParticipationsByCursor(
+                    semesterId, groupId, personId, status, startDate, endDate,
+                    cursor, size, direction == Sort.Direction.ASC, includeTotal);
+                return ResponseEntity.ok(result);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse(e.getMessage()));
+            }
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
 
         Page<Participation> participations = participationService.searchParticipations(
@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.Person;
 import com.example.sample.service.PersonService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +25,7 @@ public class PersonController {
     }
 
     // View all persons
+    @VersionedBy(Aggregate.PERSONS)
     @GetMapping
     public ResponseEntity<List<Person>> getAllPersons() {
         List<Person> persons = personService.getAllPersons();
@@ -30,6 +33,7 @@ public class PersonController {
     }
 
     // View person by id
+    @VersionedBy(Aggregate.PERSONS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getPersonById(@PathVariable Integer id) {
         return personService.getPersonById(id)
@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.ReadingAssignment;
 import com.example.sample.service.ReadingAssignmentService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,12 +24,14 @@ public class ReadingAssignmentController {
         this.assignmentService = assignmentService;
     }
 
+    @VersionedBy({Aggregate.ASSIGNMENTS, Aggregate.SEMESTERS})
     @GetMapping
     public ResponseEntity<List<ReadingAssignment>> getAllAssignments() {
         List<ReadingAssignment> assignments = assignmentService.getAllAssignments();
         return ResponseEntity.ok(assignments);
     }
 
+    @VersionedBy({Aggregate.ASSIGNMENTS, Aggregate.SEMESTERS})
     @GetMapping("/{id}")
     public ResponseEntity<?> getAssignmentById(@PathVariable Integer id) {
         return assignmentService.getAssignmentById(id)
@@ -36,6 +40,7 @@ public class ReadingAssignmentController {
                         .body(createErrorResponse("Assignment not found with id: " + id)));
     }
 
+    @VersionedBy({Aggregate.ASSIGNMENTS, Aggregate.SEMESTERS})
     @GetMapping("/semester/{semesterId}")
     public ResponseEntity<List<ReadingAssignment>> getAssignmentsBySemesterId(@PathVariable Integer semesterId) {
         List<ReadingAssignment> assignments = assignmentService.getAssignmentsBySemesterId(semesterId);
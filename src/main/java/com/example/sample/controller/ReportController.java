@@ -0,0 +1,59 @@
+package com.example.sample.controller;
+
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
+import com.example.sample.dto.RecordAggregate;
+import com.example.sample.service.ReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @Autowired
+    public ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    // Fine/score totals and averages per person for a semester
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
+    @GetMapping("/semester/{semesterId}/persons")
+    public ResponseEntity<?> getPersonTotals(@PathVariable Integer semesterId) {
+        try {
+            List<RecordAggregate> totals = reportService.getPersonTotalsForSemester(semesterId);
+            return ResponseEntity.ok(totals);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Fine/score totals and averages per group for a semester
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
+    @GetMapping("/semester/{semesterId}/groups")
+    public ResponseEntity<?> getGroupTotals(@PathVariable Integer semesterId) {
+        try {
+            List<RecordAggregate> totals = reportService.getGroupTotalsForSemester(semesterId);
+            return ResponseEntity.ok(totals);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    private Map<String, Object> createErrorResponse(String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return error;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.Book;
 import com.example.sample.model.Group;
 import com.example.sample.model.Semester;
@@ -26,6 +28,7 @@ public class SemesterController {
     }
 
     // Get all semesters
+    @VersionedBy(Aggregate.SEMESTERS)
     @GetMapping
     public ResponseEntity<List<Semester>> getAllSemesters() {
         List<Semester> semesters = semesterService.getAllSemesters();
@@ -33,6 +36,7 @@ public class SemesterController {
     }
 
     // Get semester by ID
+    @VersionedBy(Aggregate.SEMESTERS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getSemesterById(@PathVariable Integer id) {
         return semesterService.getSemesterById(id)
@@ -81,6 +85,7 @@ public class SemesterController {
     }
 
     // Get all groups in a semester
+    @VersionedBy({Aggregate.SEMESTERS, Aggregate.GROUPS})
     @GetMapping("/{id}/groups")
     public ResponseEntity<?> getSemesterGroups(@PathVariable Integer id) {
         try {
@@ -117,6 +122,7 @@ public class SemesterController {
     }
 
     // Get all books in a semester
+    @VersionedBy({Aggregate.SEMESTERS, Aggregate.BOOKS})
     @GetMapping("/{id}/books")
     public ResponseEntity<?> getSemesterBooks(@PathVariable Integer id) {
         try {
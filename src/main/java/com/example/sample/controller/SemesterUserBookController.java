@@ -1,5 +1,7 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.model.SemesterUserBook;
 import com.example.sample.service.SemesterUserBookService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +25,7 @@ public class SemesterUserBookController {
     }
 
     // Get all semester user books
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping
     public ResponseEntity<List<SemesterUserBook>> getAllSemesterUserBooks() {
         List<SemesterUserBook> semesterUserBooks = semesterUserBookService.getAllSemesterUserBooks();
@@ -30,6 +33,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user book by ID
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/{id}")
     public ResponseEntity<?> getSemesterUserBookById(@PathVariable Integer id) {
         return semesterUserBookService.getSemesterUserBookById(id)
@@ -39,6 +43,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user books by semester
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/semester/{semesterId}")
     public ResponseEntity<List<SemesterUserBook>> getSemesterUserBooksBySemester(@PathVariable Integer semesterId) {
         List<SemesterUserBook> semesterUserBooks = semesterUserBookService.getSemesterUserBooksBySemester(semesterId);
@@ -46,6 +51,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user books by person
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/person/{personId}")
     public ResponseEntity<List<SemesterUserBook>> getSemesterUserBooksByPerson(@PathVariable Integer personId) {
         List<SemesterUserBook> semesterUserBooks = semesterUserBookService.getSemesterUserBooksByPerson(personId);
@@ -53,6 +59,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user books by book
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/book/{bookId}")
     public ResponseEntity<List<SemesterUserBook>> getSemesterUserBooksByBook(@PathVariable Integer bookId) {
         List<SemesterUserBook> semesterUserBooks = semesterUserBookService.getSemesterUserBooksByBook(bookId);
@@ -60,6 +67,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user books by semester and person
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/semester/{semesterId}/person/{personId}")
     public ResponseEntity<List<SemesterUserBook>> getSemesterUserBooksBySemesterAndPerson(
             @PathVariable Integer semesterId,
@@ -69,6 +77,7 @@ public class SemesterUserBookController {
     }
 
     // Get semester user books by semester and book
+    @VersionedBy({Aggregate.USER_BOOKS, Aggregate.SEMESTERS, Aggregate.PERSONS, Aggregate.BOOKS})
     @GetMapping("/semester/{semesterId}/book/{bookId}")
     public ResponseEntity<List<SemesterUserBook>> getSemesterUserBooksBySemesterAndBook(
             @PathVariable Integer semesterId,
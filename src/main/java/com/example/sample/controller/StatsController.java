@@ -0,0 +1,63 @@
+package com.example.sample.controller;
+
+import com.example.sample.security.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+public class StatsController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public StatsController(VerifiedTokenCache verifiedTokenCache, CacheManager cacheManager) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.cacheManager = cacheManager;
+    }
+
+    // Hit/miss counters for the verified JWT cache
+    @GetMapping("/token-cache")
+    public ResponseEntity<Map<String, Object>> getTokenCacheStats() {
+        return ResponseEntity.ok(toMap(verifiedTokenCache.stats(), verifiedTokenCache.size()));
+    }
+
+    // Hit/miss counters for the semester, group and book reference-data caches
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                response.put(name, toMap(nativeCache.stats(), nativeCache.estimatedSize()));
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("size", size);
+        response.put("hits", stats.hitCount());
+        response.put("misses", stats.missCount());
+        response.put("hitRate", stats.hitRate());
+        response.put("evictions", stats.evictionCount());
+        return response;
+    }
+}
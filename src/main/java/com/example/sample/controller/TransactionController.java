@@ -0,0 +1,137 @@
+package com.example.sample.controller;
+
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
+import com.example.sample.model.Transaction;
+import com.example.sample.model.TransactionSummary;
+import com.example.sample.service.TransactionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/transactions")
+public class TransactionController {
+
+    private final TransactionService transactionService;
+
+    @Autowired
+    public TransactionController(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    // Get all transactions (newest first)
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping
+    public ResponseEntity<List<Transaction>> getAllTransactions() {
+        return ResponseEntity.ok(transactionService.getAllTransactions());
+    }
+
+    // Running totals: totalIncome, totalExpense, balance, transactionCount
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping("/summary")
+    public ResponseEntity<TransactionSummary> getSummary() {
+        return ResponseEntity.ok(transactionService.getSummary());
+    }
+
+    // Recompute the running totals from the ledger
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<TransactionSummary> rebuildSummary() {
+        return ResponseEntity.ok(transactionService.rebuildSummary());
+    }
+
+    // Get transaction by id
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getTransactionById(@PathVariable Integer id) {
+        return transactionService.getTransactionById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(createErrorResponse("Transaction not found with id: " + id)));
+    }
+
+    // Get transactions on a date (yyyy-MM-dd)
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping("/date/{date}")
+    public ResponseEntity<List<Transaction>> getTransactionsByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(transactionService.getTransactionsByDate(date));
+    }
+
+    // Get transactions by type (INCOME or EXPENSE)
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping("/type/{type}")
+    public ResponseEntity<?> getTransactionsByType(@PathVariable String type) {
+        try {
+            return ResponseEntity.ok(transactionService.getTransactionsByType(type));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Get transactions by payment method (CARD, CASH or DEBIT_CARD)
+    @VersionedBy(Aggregate.TRANSACTIONS)
+    @GetMapping("/method/{method}")
+    public ResponseEntity<?> getTransactionsByPaymentMethod(@PathVariable String method) {
+        try {
+            return ResponseEntity.ok(transactionService.getTransactionsByPaymentMethod(method));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Create transaction
+    @PostMapping
+    public ResponseEntity<?> createTransaction(@RequestBody Transaction transaction) {
+        try {
+            Transaction created = transactionService.createTransaction(transaction);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Update transaction
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateTransaction(@PathVariable Integer id, @RequestBody Transaction transactionDetails) {
+        try {
+            Transaction updated = transactionService.updateTransaction(id, transactionDetails);
+            return ResponseEntity.ok(updated);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Delete transaction
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteTransaction(@PathVariable Integer id) {
+        try {
+            transactionService.deleteTransaction(id);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Transaction deleted successfully");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    private Map<String, Object> createErrorResponse(String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return error;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
 import com.example.sample.dto.LoginRequest;
 import com.example.sample.dto.LoginResponse;
+import com.example.sample.dto.UserParticipation;
+import com.example.sample.dto.UserSemestersResponse;
 import com.example.sample.model.*;
 import com.example.sample.security.JwtUtil;
 import com.example.sample.service.*;
@@ -11,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/user")
@@ -69,6 +72,7 @@ public class UserController {
         }
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/{personId}/semesters")
     public ResponseEntity<?> getUserSemesters(@PathVariable Integer personId) {
         try {
@@ -78,52 +82,31 @@ public class UserController {
             // Get all participations for this person
             List<Participation> participations = participationService.getParticipationsByPerson(personId);
 
-            // Group by semester and group
-            Map<Integer, Map<String, Object>> semesterMap = new LinkedHashMap<>();
+            // Group by semester, keeping each group's earliest participation (the query orders by date)
+            Map<Integer, Semester> semesters = new LinkedHashMap<>();
+            Map<Integer, Map<Integer, UserSemestersResponse.GroupEntry>> groupsBySemester = new HashMap<>();
 
             for (Participation participation : participations) {
-                Integer semesterId = participation.getSemester().getSemesterId();
-                String semesterName = participation.getSemester().getName();
-                Integer groupId = participation.getGroup().getGroupId();
-                String groupName = participation.getGroup().getGroupName();
-
-                semesterMap.putIfAbsent(semesterId, new HashMap<>());
-                Map<String, Object> semesterData = semesterMap.get(semesterId);
-
-                semesterData.put("semesterId", semesterId);
-                semesterData.put("semesterName", semesterName);
-                semesterData.put("sdate", participation.getSemester().getSdate());
-                semesterData.put("edate", participation.getSemester().getEdate());
-
-                // Use a Map to track unique groups by groupId
-                @SuppressWarnings("unchecked")
-                Map<Integer, Map<String, Object>> groupsMap = (Map<Integer, Map<String, Object>>)
-                    semesterData.computeIfAbsent("groupsMap", k -> new LinkedHashMap<>());
-
-                // Only add group if not already present
-                if (!groupsMap.containsKey(groupId)) {
-                    Map<String, Object> groupData = new HashMap<>();
-                    groupData.put("groupId", groupId);
-                    groupData.put("groupName", groupName);
-                    groupData.put("participationDate", participation.getParticipationDate());
-                    groupsMap.put(groupId, groupData);
-                }
+                Semester semester = participation.getSemester();
+                Group group = participation.getGroup();
+
+                semesters.putIfAbsent(semester.getSemesterId(), semester);
+                groupsBySemester.computeIfAbsent(semester.getSemesterId(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(group.getGroupId(), new UserSemestersResponse.GroupEntry(
+                                group.getGroupId(), group.getGroupName(), participation.getParticipationDate()));
             }
 
-            // Convert groupsMap to groups list for each semester
-            for (Map<String, Object> semesterData : semesterMap.values()) {
-                @SuppressWarnings("unchecked")
-                Map<Integer, Map<String, Object>> groupsMap = (Map<Integer, Map<String, Object>>)
-                    semesterData.remove("groupsMap");
-                if (groupsMap != null) {
-                    semesterData.put("groups", new ArrayList<>(groupsMap.values()));
-                }
+            List<UserSemestersResponse.SemesterEntry> semesterEntries = new ArrayList<>(semesters.size());
+            for (Semester semester : semesters.values()) {
+                semesterEntries.add(new UserSemestersResponse.SemesterEntry(
+                        semester.getSemesterId(),
+                        semester.getName(),
+                        semester.getSdate(),
+                        semester.getEdate(),
+                        new ArrayList<>(groupsBySemester.get(semester.getSemesterId()).values())));
             }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("personId", personId);
-            response.put("personName", person.getName());
-            response.put("semesters", new ArrayList<>(semesterMap.values()));
+            UserSemestersResponse response = new UserSemestersResponse(personId, person.getName(), semesterEntries);
 
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
@@ -135,6 +118,7 @@ public class UserController {
         }
     }
 
+    @VersionedBy({Aggregate.PARTICIPATIONS, Aggregate.PERSONS, Aggregate.GROUPS, Aggregate.SEMESTERS})
     @GetMapping("/{personId}/participations")
     public ResponseEntity<?> getUserParticipations(
             @PathVariable Integer personId,
@@ -144,52 +128,17 @@ public class UserController {
             List<Participation> participations;
 
             if (semesterId != null && groupId != null) {
-                participations = participationService.getParticipationsBySemester(semesterId)
-                        .stream()
-                        .filter(p -> p.getPerson().getPersonId().equals(personId) &&
-                                     p.getGroup().getGroupId().equals(groupId))
-                        .collect(Collectors.toList());
+                participations = participationService.getParticipationsByPersonSemesterAndGroup(
+                        personId, semesterId, groupId);
             } else if (semesterId != null) {
-                participations = participationService.getParticipationsBySemester(semesterId)
-                        .stream()
-                        .filter(p -> p.getPerson().getPersonId().equals(personId))
-                        .collect(Collectors.toList());
+                participations = participationService.getParticipationsByPersonAndSemester(personId, semesterId);
             } else {
                 participations = participationService.getParticipationsByPerson(personId);
             }
 
-            List<Map<String, Object>> result = new ArrayList<>();
+            List<UserParticipation> result = new ArrayList<>(participations.size());
             for (Participation participation : participations) {
-                Map<String, Object> data = new HashMap<>();
-                data.put("participationId", participation.getParticipationId());
-                data.put("semesterId", participation.getSemester().getSemesterId());
-                data.put("semesterName", participation.getSemester().getName());
-                data.put("groupId", participation.getGroup().getGroupId());
-                data.put("groupName", participation.getGroup().getGroupName());
-                data.put("status", participation.getStatus());
-                data.put("participationDate", participation.getParticipationDate());
-
-                // Get weekly record if exists
-                Optional<WeeklyRecord> record = Optional.ofNullable(participation.getWeeklyRecord());
-                if (record.isPresent()) {
-                    WeeklyRecord wr = record.get();
-                    Map<String, Object> recordData = new HashMap<>();
-                    recordData.put("recordId", wr.getRecordId());
-                    recordData.put("weekNumber", wr.getWeekNumber());
-                    recordData.put("service1", wr.getService1());
-                    recordData.put("service2", wr.getService2());
-                    recordData.put("summary1", wr.getSummary1());
-                    recordData.put("summary2", wr.getSummary2());
-                    recordData.put("qt", wr.getQt());
-                    recordData.put("reading", wr.getReading());
-                    recordData.put("pray", wr.getPray());
-                    recordData.put("memorize", wr.getMemorize());
-                    recordData.put("fine", wr.getFine());
-                    recordData.put("submittedDate", wr.getSubmittedDate());
-                    data.put("weeklyRecord", recordData);
-                }
-
-                result.add(data);
+                result.add(UserParticipation.from(participation));
             }
 
             return ResponseEntity.ok(result);
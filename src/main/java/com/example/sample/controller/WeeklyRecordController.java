@@ -1,5 +1,8 @@
 package com.example.sample.controller;
 
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.config.VersionedBy;
+import com.example.sample.dto.BulkWeeklyRecordRequest;
 import com.example.sample.model.WeeklyRecord;
 import com.example.sample.service.WeeklyRecordService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,12 +25,14 @@ public class WeeklyRecordController {
         this.recordService = recordService;
     }
 
+    @VersionedBy(Aggregate.PARTICIPATIONS)
     @GetMapping
     public ResponseEntity<List<WeeklyRecord>> getAllRecords() {
         List<WeeklyRecord> records = recordService.getAllRecords();
         return ResponseEntity.ok(records);
     }
 
+    @VersionedBy(Aggregate.PARTICIPATIONS)
     @GetMapping("/{id}")
     public ResponseEntity<?> getRecordById(@PathVariable Integer id) {
         return recordService.getRecordById(id)
@@ -36,18 +41,21 @@ public class WeeklyRecordController {
                         .body(createErrorResponse("Record not found with id: " + id)));
     }
 
+    @VersionedBy(Aggregate.PARTICIPATIONS)
     @GetMapping("/person/{personId}")
     public ResponseEntity<List<WeeklyRecord>> getRecordsByPersonId(@PathVariable Integer personId) {
         List<WeeklyRecord> records = recordService.getRecordsByPersonId(personId);
         return ResponseEntity.ok(records);
     }
 
+    @VersionedBy(Aggregate.PARTICIPATIONS)
     @GetMapping("/semester/{semesterId}")
     public ResponseEntity<List<WeeklyRecord>> getRecordsBySemesterId(@PathVariable Integer semesterId) {
         List<WeeklyRecord> records = recordService.getRecordsBySemesterId(semesterId);
         return ResponseEntity.ok(records);
     }
 
+    @VersionedBy(Aggregate.PARTICIPATIONS)
     @GetMapping("/person/{personId}/semester/{semesterId}")
     public ResponseEntity<List<WeeklyRecord>> getRecordsByPersonAndSemester(
             @PathVariable Integer personId,
@@ -69,6 +77,18 @@ public class WeeklyRecordController {
         }
     }
 
+    // Create weekly records for many participations in a single request
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createRecords(@RequestBody BulkWeeklyRecordRequest request) {
+        try {
+            List<WeeklyRecord> createdRecords = recordService.createRecords(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdRecords);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateRecord(@PathVariable Integer id, @RequestBody WeeklyRecord recordDetails) {
         try {
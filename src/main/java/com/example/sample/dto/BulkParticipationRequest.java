@@ -0,0 +1,76 @@
+package com.example.sample.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// One group's attendance for one date
+public class BulkParticipationRequest {
+    private Integer semesterId;
+    private Integer groupId;
+    private LocalDate participationDate;
+    private List<Entry> participations;
+
+    public BulkParticipationRequest() {
+    }
+
+    public Integer getSemesterId() {
+        return semesterId;
+    }
+
+    public void setSemesterId(Integer semesterId) {
+        this.semesterId = semesterId;
+    }
+
+    public Integer getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Integer groupId) {
+        this.groupId = groupId;
+    }
+
+    public LocalDate getParticipationDate() {
+        return participationDate;
+    }
+
+    public void setParticipationDate(LocalDate participationDate) {
+        this.participationDate = participationDate;
+    }
+
+    public List<Entry> getParticipations() {
+        return participations;
+    }
+
+    public void setParticipations(List<Entry> participations) {
+        this.participations = participations;
+    }
+
+    public static class Entry {
+        private Integer personId;
+        private String status;
+
+        public Entry() {
+        }
+
+        public Entry(Integer personId, String status) {
+            this.personId = personId;
+            this.status = status;
+        }
+
+        public Integer getPersonId() {
+            return personId;
+        }
+
+        public void setPersonId(Integer personId) {
+            this.personId = personId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.sample.dto;
+
+import com.example.sample.model.WeeklyRecord;
+
+import java.util.List;
+
+// Weekly records for many participations at once
+public class BulkWeeklyRecordRequest {
+    private List<Entry> records;
+
+    public BulkWeeklyRecordRequest() {
+    }
+
+    public List<Entry> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<Entry> records) {
+        this.records = records;
+    }
+
+    public static class Entry {
+        private Integer participationId;
+        private WeeklyRecord record;
+
+        public Entry() {
+        }
+
+        public Entry(Integer participationId, WeeklyRecord record) {
+            this.participationId = participationId;
+            this.record = record;
+        }
+
+        public Integer getParticipationId() {
+            return participationId;
+        }
+
+        public void setParticipationId(Integer participationId) {
+            this.participationId = participationId;
+        }
+
+        public WeeklyRecord getRecord() {
+            return record;
+        }
+
+        public void setRecord(WeeklyRecord record) {
+            this.record = record;
+        }
+    }
+}
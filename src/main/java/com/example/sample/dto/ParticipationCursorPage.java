@@ -0,0 +1,67 @@
+package com.example.sample.dto;
+
+import com.example.sample.model.Participation;
+
+import java.util.List;
+
+// One keyset page of participation search results
+public class ParticipationCursorPage {
+    private List<Participation> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    private Long totalElements;
+
+    public ParticipationCursorPage() {
+    }
+
+    public ParticipationCursorPage(List<Participation> content, String nextCursor, boolean hasNext,
+                                   int size, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    public List<Participation> getContent() {
+        return content;
+    }
+
+    public void setContent(List<Participation> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    // Only populated when the caller asks for it; null otherwise
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
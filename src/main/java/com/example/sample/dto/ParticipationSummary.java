@@ -0,0 +1,125 @@
+package com.example.sample.dto;
+
+import java.time.LocalDate;
+
+// Flat read model for participation lists: one row per participation, no entity graph
+public class ParticipationSummary {
+    private Integer participationId;
+    private Integer semesterId;
+    private String semesterName;
+    private Integer groupId;
+    private String groupName;
+    private Integer personId;
+    private String personName;
+    private String status;
+    private LocalDate participationDate;
+    private Integer weekNumber;
+    private Integer fine;
+
+    public ParticipationSummary() {
+    }
+
+    public ParticipationSummary(Integer participationId, Integer semesterId, String semesterName,
+                                Integer groupId, String groupName, Integer personId, String personName,
+                                String status, LocalDate participationDate, Integer weekNumber, Integer fine) {
+        this.participationId = participationId;
+        this.semesterId = semesterId;
+        this.semesterName = semesterName;
+        this.groupId = groupId;
+        this.groupName = groupName;
+        this.personId = personId;
+        this.personName = personName;
+        this.status = status;
+        this.participationDate = participationDate;
+        this.weekNumber = weekNumber;
+        this.fine = fine;
+    }
+
+    public Integer getParticipationId() {
+        return participationId;
+    }
+
+    public void setParticipationId(Integer participationId) {
+        this.participationId = participationId;
+    }
+
+    public Integer getSemesterId() {
+        return semesterId;
+    }
+
+    public void setSemesterId(Integer semesterId) {
+        this.semesterId = semesterId;
+    }
+
+    public String getSemesterName() {
+        return semesterName;
+    }
+
+    public void setSemesterName(String semesterName) {
+        this.semesterName = semesterName;
+    }
+
+    public Integer getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Integer groupId) {
+        this.groupId = groupId;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    public Integer getPersonId() {
+        return personId;
+    }
+
+    public void setPersonId(Integer personId) {
+        this.personId = personId;
+    }
+
+    public String getPersonName() {
+        return personName;
+    }
+
+    public void setPersonName(String personName) {
+        this.personName = personName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getParticipationDate() {
+        return participationDate;
+    }
+
+    public void setParticipationDate(LocalDate participationDate) {
+        this.participationDate = participationDate;
+    }
+
+    public Integer getWeekNumber() {
+        return weekNumber;
+    }
+
+    public void setWeekNumber(Integer weekNumber) {
+        this.weekNumber = weekNumber;
+    }
+
+    public Integer getFine() {
+        return fine;
+    }
+
+    public void setFine(Integer fine) {
+        this.fine = fine;
+    }
+}
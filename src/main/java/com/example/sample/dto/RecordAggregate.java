@@ -0,0 +1,177 @@
+package com.example.sample.dto;
+
+// Weekly record totals and averages for one person or one group within a semester
+public class RecordAggregate {
+    private Integer id;
+    private String name;
+    private Long recordCount;
+    private Long totalFine;
+    private Double averageFine;
+    private Long totalQt;
+    private Double averageQt;
+    private Long totalReading;
+    private Double averageReading;
+    private Long totalPray;
+    private Double averagePray;
+    private Long totalMemorize;
+    private Double averageMemorize;
+    private Long ontimeServices;
+    private Long lateServices;
+    private Long absentServices;
+
+    public RecordAggregate() {
+    }
+
+    public RecordAggregate(Integer id, String name, Long recordCount,
+                           Long totalFine, Double averageFine,
+                           Long totalQt, Double averageQt,
+                           Long totalReading, Double averageReading,
+                           Long totalPray, Double averagePray,
+                           Long totalMemorize, Double averageMemorize,
+                           Long ontimeServices, Long lateServices, Long absentServices) {
+        this.id = id;
+        this.name = name;
+        this.recordCount = recordCount;
+        this.totalFine = totalFine;
+        this.averageFine = averageFine;
+        this.totalQt = totalQt;
+        this.averageQt = averageQt;
+        this.totalReading = totalReading;
+        this.averageReading = averageReading;
+        this.totalPray = totalPray;
+        this.averagePray = averagePray;
+        this.totalMemorize = totalMemorize;
+        this.averageMemorize = averageMemorize;
+        this.ontimeServices = ontimeServices;
+        this.lateServices = lateServices;
+        this.absentServices = absentServices;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(Long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public Long getTotalFine() {
+        return totalFine;
+    }
+
+    public void setTotalFine(Long totalFine) {
+        this.totalFine = totalFine;
+    }
+
+    public Double getAverageFine() {
+        return averageFine;
+    }
+
+    public void setAverageFine(Double averageFine) {
+        this.averageFine = averageFine;
+    }
+
+    public Long getTotalQt() {
+        return totalQt;
+    }
+
+    public void setTotalQt(Long totalQt) {
+        this.totalQt = totalQt;
+    }
+
+    public Double getAverageQt() {
+        return averageQt;
+    }
+
+    public void setAverageQt(Double averageQt) {
+        this.averageQt = averageQt;
+    }
+
+    public Long getTotalReading() {
+        return totalReading;
+    }
+
+    public void setTotalReading(Long totalReading) {
+        this.totalReading = totalReading;
+    }
+
+    public Double getAverageReading() {
+        return averageReading;
+    }
+
+    public void setAverageReading(Double averageReading) {
+        this.averageReading = averageReading;
+    }
+
+    public Long getTotalPray() {
+        return totalPray;
+    }
+
+    public void setTotalPray(Long totalPray) {
+        this.totalPray = totalPray;
+    }
+
+    public Double getAveragePray() {
+        return averagePray;
+    }
+
+    public void setAveragePray(Double averagePray) {
+        this.averagePray = averagePray;
+    }
+
+    public Long getTotalMemorize() {
+        return totalMemorize;
+    }
+
+    public void setTotalMemorize(Long totalMemorize) {
+        this.totalMemorize = totalMemorize;
+    }
+
+    public Double getAverageMemorize() {
+        return averageMemorize;
+    }
+
+    public void setAverageMemorize(Double averageMemorize) {
+        this.averageMemorize = averageMemorize;
+    }
+
+    public Long getOntimeServices() {
+        return ontimeServices;
+    }
+
+    public void setOntimeServices(Long ontimeServices) {
+        this.ontimeServices = ontimeServices;
+    }
+
+    public Long getLateServices() {
+        return lateServices;
+    }
+
+    public void setLateServices(Long lateServices) {
+        this.lateServices = lateServices;
+    }
+
+    public Long getAbsentServices() {
+        return absentServices;
+    }
+
+    public void setAbsentServices(Long absentServices) {
+        this.absentServices = absentServices;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sample.dto;
+
+import com.example.sample.model.Participation;
+import com.example.sample.model.WeeklyRecord;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+// One row of a member's participation list; weeklyRecord is omitted when none was submitted
+public record UserParticipation(Integer participationId, Integer semesterId, String semesterName,
+                                Integer groupId, String groupName, String status, LocalDate participationDate,
+                                @JsonInclude(JsonInclude.Include.NON_NULL) Record weeklyRecord) {
+
+    public record Record(Integer recordId, Integer weekNumber, String service1, String service2,
+                         Boolean summary1, Boolean summary2, Integer qt, Integer reading, Integer pray,
+                         Integer memorize, Integer fine, LocalDate submittedDate) {
+    }
+
+    public static UserParticipation from(Participation participation) {
+        WeeklyRecord wr = participation.getWeeklyRecord();
+        Record record = wr == null ? null : new Record(
+                wr.getRecordId(), wr.getWeekNumber(), wr.getService1(), wr.getService2(),
+                wr.getSummary1(), wr.getSummary2(), wr.getQt(), wr.getReading(), wr.getPray(),
+                wr.getMemorize(), wr.getFine(), wr.getSubmittedDate());
+
+        return new UserParticipation(
+                participation.getParticipationId(),
+                participation.getSemester().getSemesterId(),
+                participation.getSemester().getName(),
+                participation.getGroup().getGroupId(),
+                participation.getGroup().getGroupName(),
+                participation.getStatus(),
+                participation.getParticipationDate(),
+                record);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.sample.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Member dashboard: the semesters a person has participated in, with the groups per semester
+public record UserSemestersResponse(Integer personId, String personName, List<SemesterEntry> semesters) {
+
+    public record SemesterEntry(Integer semesterId, String semesterName, LocalDate sdate, LocalDate edate,
+                                List<GroupEntry> groups) {
+    }
+
+    // participationDate is the person's first participation in the group
+    public record GroupEntry(Integer groupId, String groupName, LocalDate participationDate) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sample.exception;
+
+// Thrown when the password-hashing executor is saturated; mapped to 503 with Retry-After
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -6,11 +6,17 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "participations")
+@Table(name = "participations", indexes = {
+    @Index(name = "idx_participations_person_semester_group", columnList = "person_id, semester_id, group_id"),
+    @Index(name = "idx_participations_semester_group", columnList = "semester_id, group_id"),
+    @Index(name = "idx_participations_date_id", columnList = "participation_date, participation_id")
+})
 public class Participation {
 
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participations_seq")
+    @SequenceGenerator(name = "participations_seq", sequenceName = "participations_seq", allocationSize = 50)
     @Column(name = "participation_id")
     private Integer participationId;
 
@@ -0,0 +1,96 @@
+package com.example.sample.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_date", columnList = "date, transaction_id"),
+    @Index(name = "idx_transactions_type_date", columnList = "type, date"),
+    @Index(name = "idx_transactions_payment_method_date", columnList = "payment_method, date")
+})
+public class Transaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "transaction_id")
+    private Integer transactionId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    // INCOME or EXPENSE
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    // CARD, CASH or DEBIT_CARD
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    public Transaction() {
+    }
+
+    public Transaction(BigDecimal amount, String type, String paymentMethod, LocalDate date, String description) {
+        this.amount = amount;
+        this.type = type;
+        this.paymentMethod = paymentMethod;
+        this.date = date;
+        this.description = description;
+    }
+
+    // Getters and Setters
+    public Integer getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(Integer transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.sample.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+
+// Single-row running totals of the transaction ledger, adjusted in the same database
+// transaction as every insert, update and delete, so reading the summary never scans the ledger
+@Entity
+@Table(name = "transaction_summary")
+public class TransactionSummary {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "summary_id")
+    @JsonIgnore
+    private Integer summaryId;
+
+    @Column(name = "total_income", nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalIncome = BigDecimal.ZERO;
+
+    @Column(name = "total_expense", nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalExpense = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount = 0L;
+
+    public TransactionSummary() {
+    }
+
+    public TransactionSummary(BigDecimal totalIncome, BigDecimal totalExpense, Long transactionCount) {
+        this.summaryId = SINGLETON_ID;
+        this.totalIncome = totalIncome;
+        this.totalExpense = totalExpense;
+        this.transactionCount = transactionCount;
+    }
+
+    // Getters and Setters
+    public Integer getSummaryId() {
+        return summaryId;
+    }
+
+    public void setSummaryId(Integer summaryId) {
+        this.summaryId = summaryId;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return totalIncome;
+    }
+
+    public void setTotalIncome(BigDecimal totalIncome) {
+        this.totalIncome = totalIncome;
+    }
+
+    public BigDecimal getTotalExpense() {
+        return totalExpense;
+    }
+
+    public void setTotalExpense(BigDecimal totalExpense) {
+        this.totalExpense = totalExpense;
+    }
+
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(Long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public BigDecimal getBalance() {
+        return totalIncome.subtract(totalExpense);
+    }
+}
@@ -8,8 +8,10 @@ import java.time.LocalDate;
 @Table(name = "weekly_records")
 public class WeeklyRecord {
 
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weekly_records_seq")
+    @SequenceGenerator(name = "weekly_records_seq", sequenceName = "weekly_records_seq", allocationSize = 50)
     @Column(name = "record_id")
     private Integer recordId;
 
@@ -1,7 +1,11 @@
 package com.example.sample.repository;
 
 import com.example.sample.model.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +21,11 @@ public interface BookRepository extends JpaRepository<Book, Integer> {
     List<Book> findByTitleContainingIgnoreCase(String keyword);
 
     List<Book> findByAuthorContainingIgnoreCase(String keyword);
+
+    // PostgreSQL only: books.search_vector and its GIN index come from V4__book_search.sql
+    @Query(value = "SELECT b.* FROM books b WHERE b.search_vector @@ to_tsquery('simple', :query) " +
+            "ORDER BY ts_rank(b.search_vector, to_tsquery('simple', :query)) DESC, b.book_id",
+            countQuery = "SELECT count(*) FROM books b WHERE b.search_vector @@ to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<Book> searchRanked(@Param("query") String query, Pageable pageable);
 }
\ No newline at end of file
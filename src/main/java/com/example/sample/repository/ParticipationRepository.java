@@ -1,18 +1,30 @@
 package com.example.sample.repository;
 
+import com.example.sample.dto.ParticipationSummary;
 import com.example.sample.model.Participation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ParticipationRepository extends JpaRepository<Participation, Integer>,
                                                   JpaSpecificationExecutor<Participation> {
 
+    // Loads a participation together with its semester, group, person and weekly record
+    // in one statement, instead of one extra select per EAGER association per row
+    String FETCH_DETAILS = "SELECT p FROM Participation p " +
+            "JOIN FETCH p.semester s " +
+            "JOIN FETCH p.group g " +
+            "JOIN FETCH p.person pe " +
+            "LEFT JOIN FETCH p.weeklyRecord w ";
+
     List<Participation> findBySemester_SemesterId(Integer semesterId);
 
     List<Participation> findByGroup_GroupId(Integer groupId);
@@ -22,6 +34,49 @@ public interface ParticipationRepository extends JpaRepository<Participation, In
     List<Participation> findBySemester_SemesterIdAndGroup_GroupIdAndPerson_PersonId(
         Integer semesterId, Integer groupId, Integer personId);
 
+    // Fetch-join list queries (one round-trip per request)
+    @Query(FETCH_DETAILS)
+    List<Participation> findAllWithDetails();
+
+    @Query(FETCH_DETAILS + "WHERE p.participationId IN :ids")
+    List<Participation> findWithDetailsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(FETCH_DETAILS + "WHERE s.semesterId = :semesterId")
+    List<Participation> findWithDetailsBySemesterId(@Param("semesterId") Integer semesterId);
+
+    @Query(FETCH_DETAILS + "WHERE g.groupId = :groupId")
+    List<Participation> findWithDetailsByGroupId(@Param("groupId") Integer groupId);
+
+    // Ordered by date: the member dashboard keeps each group's earliest participation
+    @Query(FETCH_DETAILS + "WHERE pe.personId = :personId ORDER BY p.participationDate, p.participationId")
+    List<Participation> findWithDetailsByPersonId(@Param("personId") Integer personId);
+
+    @Query(FETCH_DETAILS + "WHERE pe.personId = :personId AND s.semesterId = :semesterId")
+    List<Participation> findWithDetailsByPersonIdAndSemesterId(@Param("personId") Integer personId,
+                                                               @Param("semesterId") Integer semesterId);
+
+    @Query(FETCH_DETAILS + "WHERE pe.personId = :personId AND s.semesterId = :semesterId AND g.groupId = :groupId")
+    List<Participation> findWithDetailsByPersonIdAndSemesterIdAndGroupId(@Param("personId") Integer personId,
+                                                                         @Param("semesterId") Integer semesterId,
+                                                                         @Param("groupId") Integer groupId);
+
+    // Flat projection for list screens; filters are optional
+    @Query("SELECT new com.example.sample.dto.ParticipationSummary(" +
+            "p.participationId, s.semesterId, s.name, g.groupId, g.groupName, pe.personId, pe.name, " +
+            "p.status, p.participationDate, w.weekNumber, w.fine) " +
+            "FROM Participation p " +
+            "JOIN p.semester s " +
+            "JOIN p.group g " +
+            "JOIN p.person pe " +
+            "LEFT JOIN p.weeklyRecord w " +
+            "WHERE (:semesterId IS NULL OR s.semesterId = :semesterId) " +
+            "AND (:groupId IS NULL OR g.groupId = :groupId) " +
+            "AND (:personId IS NULL OR pe.personId = :personId) " +
+            "ORDER BY p.participationDate DESC, p.participationId DESC")
+    List<ParticipationSummary> findSummaries(@Param("semesterId") Integer semesterId,
+                                             @Param("groupId") Integer groupId,
+                                             @Param("personId") Integer personId);
+
     // Pagination methods
     Page<Participation> findBySemester_SemesterId(Integer semesterId, Pageable pageable);
 
@@ -30,4 +85,4 @@ public interface ParticipationRepository extends JpaRepository<Participation, In
     Page<Participation> findByPerson_PersonId(Integer personId, Pageable pageable);
 
     Page<Participation> findByStatus(String status, Pageable pageable);
-}
\ No newline at end of file
+}
@@ -4,7 +4,13 @@ import com.example.sample.model.Person;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Integer> {
 
-}
\ No newline at end of file
+    // Case-insensitive name lookup, backed by the unique index on UPPER(name)
+    Optional<Person> findByNameIgnoreCase(String name);
+
+    boolean existsByNameIgnoreCase(String name);
+}
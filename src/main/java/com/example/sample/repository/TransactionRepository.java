@@ -0,0 +1,38 @@
+package com.example.sample.repository;
+
+import com.example.sample.model.Transaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, Integer> {
+
+    // Newest first; each filter is backed by an index on (filter column, date)
+    List<Transaction> findAllByOrderByDateDescTransactionIdDesc();
+
+    List<Transaction> findByDateOrderByTransactionIdDesc(LocalDate date);
+
+    List<Transaction> findByTypeOrderByDateDescTransactionIdDesc(String type);
+
+    List<Transaction> findByPaymentMethodOrderByDateDescTransactionIdDesc(String paymentMethod);
+
+    // SELECT ... FOR UPDATE for update/delete: the amount and type taken out of the running summary
+    // must be the committed ones, so concurrent writers of the same row queue here
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.transactionId = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Integer id);
+
+    // Full recomputation, only used to repair the running summary
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0), COUNT(t) " +
+           "FROM Transaction t")
+    List<Object[]> computeTotals();
+}
@@ -0,0 +1,39 @@
+package com.example.sample.repository;
+
+import com.example.sample.model.TransactionSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface TransactionSummaryRepository extends JpaRepository<TransactionSummary, Integer> {
+
+    // Creates the zero row unless it exists; a concurrent insert of the same row is not an error.
+    // Returns 1 only for the caller that actually inserted it.
+    @Modifying
+    @Query(value = "INSERT INTO transaction_summary (summary_id, total_income, total_expense, transaction_count) " +
+                   "VALUES (:id, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfMissing(@Param("id") Integer id);
+
+    // SELECT ... FOR UPDATE: ledger writers block in applyDelta until the lock holder commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TransactionSummary s WHERE s.summaryId = :id")
+    Optional<TransactionSummary> findByIdForUpdate(@Param("id") Integer id);
+
+    // Relative update in the database, so concurrent ledger writes never lose each other's deltas
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TransactionSummary s SET s.totalIncome = s.totalIncome + :income, " +
+           "s.totalExpense = s.totalExpense + :expense, s.transactionCount = s.transactionCount + :count " +
+           "WHERE s.summaryId = :id")
+    int applyDelta(@Param("id") Integer id,
+                   @Param("income") BigDecimal income,
+                   @Param("expense") BigDecimal expense,
+                   @Param("count") long count);
+}
@@ -1,7 +1,10 @@
 package com.example.sample.repository;
 
+import com.example.sample.dto.RecordAggregate;
 import com.example.sample.model.WeeklyRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,9 +12,39 @@ import java.util.List;
 @Repository
 public interface WeeklyRecordRepository extends JpaRepository<WeeklyRecord, Integer> {
 
+    // Shared SELECT list for the semester aggregates; service1 and service2 are counted together
+    String AGGREGATE_COLUMNS = "COUNT(w), " +
+            "SUM(w.fine), AVG(w.fine), " +
+            "SUM(w.qt), AVG(w.qt), " +
+            "SUM(w.reading), AVG(w.reading), " +
+            "SUM(w.pray), AVG(w.pray), " +
+            "SUM(w.memorize), AVG(w.memorize), " +
+            "SUM(CASE WHEN LOWER(w.service1) = 'ontime' THEN 1 ELSE 0 END) + " +
+            "SUM(CASE WHEN LOWER(w.service2) = 'ontime' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN LOWER(w.service1) = 'late' THEN 1 ELSE 0 END) + " +
+            "SUM(CASE WHEN LOWER(w.service2) = 'late' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN LOWER(w.service1) = 'absent' THEN 1 ELSE 0 END) + " +
+            "SUM(CASE WHEN LOWER(w.service2) = 'absent' THEN 1 ELSE 0 END)";
+
     List<WeeklyRecord> findByParticipation_Person_PersonId(Integer personId);
 
     List<WeeklyRecord> findByParticipation_Semester_SemesterId(Integer semesterId);
 
     List<WeeklyRecord> findByParticipation_Person_PersonIdAndParticipation_Semester_SemesterId(Integer personId, Integer semesterId);
-}
\ No newline at end of file
+
+    // Per-person totals for a semester, computed with GROUP BY in the database
+    @Query("SELECT new com.example.sample.dto.RecordAggregate(pe.personId, pe.name, " + AGGREGATE_COLUMNS + ") " +
+            "FROM WeeklyRecord w JOIN w.participation p JOIN p.person pe " +
+            "WHERE p.semester.semesterId = :semesterId " +
+            "GROUP BY pe.personId, pe.name " +
+            "ORDER BY pe.name")
+    List<RecordAggregate> aggregateByPersonForSemester(@Param("semesterId") Integer semesterId);
+
+    // Per-group totals for a semester, computed with GROUP BY in the database
+    @Query("SELECT new com.example.sample.dto.RecordAggregate(g.groupId, g.groupName, " + AGGREGATE_COLUMNS + ") " +
+            "FROM WeeklyRecord w JOIN w.participation p JOIN p.group g " +
+            "WHERE p.semester.semesterId = :semesterId " +
+            "GROUP BY g.groupId, g.groupName " +
+            "ORDER BY g.groupName")
+    List<RecordAggregate> aggregateByGroupForSemester(@Param("semesterId") Integer semesterId);
+}
@@ -0,0 +1,47 @@
+package com.example.sample.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+// Measures BCrypt on this host at startup and reports the cost that would be closest to the
+// target hash time. It only advises: the cost itself is the cluster-wide
+// app.password-hashing.strength, so differently-sized instances agree on the stored hashes.
+// Each cost step doubles the work, so one timed hash at minStrength is enough to extrapolate.
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static void check(int configuredStrength, long targetMillis, long timeoutMillis,
+                             int minStrength, int maxStrength) {
+        // Warm up the JIT with a cheap hash so the measurement is not dominated by interpretation
+        BCrypt.hashpw("calibration", BCrypt.gensalt(4));
+
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration", BCrypt.gensalt(minStrength));
+        double measuredMillis = Math.max((System.nanoTime() - start) / 1_000_000.0, 0.01);
+
+        int recommended = recommend(measuredMillis, minStrength, targetMillis, maxStrength);
+        long configuredMillis = Math.round(measuredMillis * Math.pow(2, configuredStrength - minStrength));
+
+        log.info("BCrypt cost {} takes about {} ms on this host; cost {} is closest to the {} ms target",
+                configuredStrength, configuredMillis, recommended, targetMillis);
+        if (configuredMillis > timeoutMillis / 2) {
+            log.warn("BCrypt cost {} (~{} ms) is close to the {} ms hashing timeout; sign-ins will be rejected "
+                    + "under load. Lower app.password-hashing.strength for the whole cluster.",
+                    configuredStrength, configuredMillis, timeoutMillis);
+        } else if (configuredMillis > targetMillis * 2) {
+            log.warn("BCrypt cost {} (~{} ms) is more than twice the {} ms target on this host",
+                    configuredStrength, configuredMillis, targetMillis);
+        }
+    }
+
+    // Cost whose extrapolated time is closest to the target (rounded in log2 space), clamped
+    static int recommend(double measuredMillis, int measuredStrength, long targetMillis, int maxStrength) {
+        int steps = (int) Math.round(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        return Math.max(measuredStrength, Math.min(maxStrength, measuredStrength + steps));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.sample.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt at one cluster-wide cost. Unlike BCryptPasswordEncoder, which only asks for an upgrade
+// when the stored cost is lower, any stored cost other than the configured one is rehashed on
+// the next login, so lowering app.password-hashing.strength also takes effect.
+// Hashes are stored without an id prefix, like the original BCryptPasswordEncoder wrote them,
+// so a rollback can still verify them. A "{bcrypt}" prefix from a short-lived delegating
+// encoder is still accepted and rewritten without it on the next login.
+public class FixedCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final String LEGACY_PREFIX = "{bcrypt}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public FixedCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return super.matches(rawPassword, stripPrefix(encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        if (encodedPassword.startsWith(LEGACY_PREFIX)) {
+            return true;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static String stripPrefix(String encodedPassword) {
+        return encodedPassword != null && encodedPassword.startsWith(LEGACY_PREFIX)
+                ? encodedPassword.substring(LEGACY_PREFIX.length())
+                : encodedPassword;
+    }
+}
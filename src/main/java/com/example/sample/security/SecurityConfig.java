@@ -1,13 +1,21 @@
 package com.example.sample.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -23,9 +31,26 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // BCrypt runs on a bounded pool off the request threads (see BoundedPasswordEncoder).
+    // The cost is one cluster-wide setting; the startup calibration only reports how it performs
+    // on this host. Hashes stay plain "$2a$..." strings as before; only a hash at a different cost
+    // is rehashed on the next login.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.password-hashing.threads:2}") int threads,
+            @Value("${app.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.password-hashing.timeout-ms:3000}") long timeoutMillis,
+            @Value("${app.password-hashing.strength:10}") int strength,
+            @Value("${app.password-hashing.calibrate:true}") boolean calibrate,
+            @Value("${app.password-hashing.target-ms:150}") long targetMillis,
+            @Value("${app.password-hashing.min-strength:10}") int minStrength,
+            @Value("${app.password-hashing.max-strength:14}") int maxStrength,
+            MeterRegistry meterRegistry) {
+        if (calibrate) {
+            BCryptCostCalibrator.check(strength, targetMillis, timeoutMillis, minStrength, maxStrength);
+        }
+        return new BoundedPasswordEncoder(new FixedCostBCryptPasswordEncoder(strength),
+                threads, queueCapacity, timeoutMillis, meterRegistry);
     }
 
     @Bean
@@ -46,6 +71,38 @@ public class SecurityConfig {
         return source;
     }
 
+    // Prometheus scrapes with HTTP Basic (app.metrics.username / app.metrics.password), checked
+    // by its own chain so the scraper never needs a JWT. Without a password the endpoint is closed.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${app.metrics.username:prometheus}") String username,
+            @Value("${app.metrics.password:}") String password) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                );
+
+        if (password.isEmpty()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+            return http.build();
+        }
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(username).password("{noop}" + password).roles("METRICS").build()));
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        http
+                .authenticationManager(new ProviderManager(provider))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"))
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
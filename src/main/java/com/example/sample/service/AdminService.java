@@ -1,5 +1,7 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Admin;
 import com.example.sample.repository.AdminRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +18,13 @@ public class AdminService {
 
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DataVersions dataVersions;
 
     @Autowired
-    public AdminService(AdminRepository adminRepository, PasswordEncoder passwordEncoder) {
+    public AdminService(AdminRepository adminRepository, PasswordEncoder passwordEncoder, DataVersions dataVersions) {
         this.adminRepository = adminRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dataVersions = dataVersions;
     }
 
     // Get all active admins (is_delete = false)
@@ -31,50 +35,51 @@ public class AdminService {
     // Get admin by ID
     public Admin getAdminById(Integer id) {
         return adminRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Admin not found"));
+                .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
     }
 
     // Create admin
     public Admin createAdmin(Admin admin) {
+        dataVersions.bump(Aggregate.ADMINS);
         // Validate required fields
         if (admin.getUsername() == null || admin.getUsername().trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw new IllegalArgumentException("Username is required");
         }
         if (admin.getName() == null || admin.getName().trim().isEmpty()) {
-            throw new RuntimeException("Name is required");
+            throw new IllegalArgumentException("Name is required");
         }
         if (admin.getPassword() == null || admin.getPassword().isEmpty()) {
-            throw new RuntimeException("Password is required");
+            throw new IllegalArgumentException("Password is required");
         }
         if (admin.getType() == null || admin.getType().trim().isEmpty()) {
-            throw new RuntimeException("Type is required");
+            throw new IllegalArgumentException("Type is required");
         }
 
         // Validate username length
         if (admin.getUsername().length() < 3) {
-            throw new RuntimeException("Username must be at least 3 characters");
+            throw new IllegalArgumentException("Username must be at least 3 characters");
         }
 
         // Validate name length
         if (admin.getName().length() < 2) {
-            throw new RuntimeException("Name must be at least 2 characters");
+            throw new IllegalArgumentException("Name must be at least 2 characters");
         }
 
         // Validate password length
         if (admin.getPassword().length() < 8) {
-            throw new RuntimeException("Password must be at least 8 characters");
+            throw new IllegalArgumentException("Password must be at least 8 characters");
         }
 
         // Validate type
         String type = admin.getType().toLowerCase();
         if (!type.equals("superadmin") && !type.equals("admin") &&
             !type.equals("moderator") && !type.equals("viewer")) {
-            throw new RuntimeException("Invalid admin type. Must be: superadmin, admin, moderator, or viewer");
+            throw new IllegalArgumentException("Invalid admin type. Must be: superadmin, admin, moderator, or viewer");
         }
 
         // Check if username already exists
         if (adminRepository.existsByUsername(admin.getUsername())) {
-            throw new RuntimeException("Username already exists");
+            throw new IllegalArgumentException("Username already exists");
         }
 
         // Set timestamps and default values
@@ -91,52 +96,53 @@ public class AdminService {
 
     // Update admin
     public Admin updateAdmin(Admin admin) {
+        dataVersions.bump(Aggregate.ADMINS);
         // Validate required fields
         if (admin.getId() == null) {
-            throw new RuntimeException("Admin ID is required");
+            throw new IllegalArgumentException("Admin ID is required");
         }
         if (admin.getUsername() == null || admin.getUsername().trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw new IllegalArgumentException("Username is required");
         }
         if (admin.getName() == null || admin.getName().trim().isEmpty()) {
-            throw new RuntimeException("Name is required");
-        }
-        if (admin.getPassword() == null || admin.getPassword().isEmpty()) {
-            throw new RuntimeException("Password is required");
+            throw new IllegalArgumentException("Name is required");
         }
         if (admin.getType() == null || admin.getType().trim().isEmpty()) {
-            throw new RuntimeException("Type is required");
+            throw new IllegalArgumentException("Type is required");
         }
 
+        // A blank password keeps the current one
+        boolean passwordChanged = admin.getPassword() != null && !admin.getPassword().isEmpty();
+
         // Validate username length
         if (admin.getUsername().length() < 3) {
-            throw new RuntimeException("Username must be at least 3 characters");
+            throw new IllegalArgumentException("Username must be at least 3 characters");
         }
 
         // Validate name length
         if (admin.getName().length() < 2) {
-            throw new RuntimeException("Name must be at least 2 characters");
+            throw new IllegalArgumentException("Name must be at least 2 characters");
         }
 
         // Validate password length
-        if (admin.getPassword().length() < 8) {
-            throw new RuntimeException("Password must be at least 8 characters");
+        if (passwordChanged && admin.getPassword().length() < 8) {
+            throw new IllegalArgumentException("Password must be at least 8 characters");
         }
 
         // Validate type
         String type = admin.getType().toLowerCase();
         if (!type.equals("superadmin") && !type.equals("admin") &&
             !type.equals("moderator") && !type.equals("viewer")) {
-            throw new RuntimeException("Invalid admin type. Must be: superadmin, admin, moderator, or viewer");
+            throw new IllegalArgumentException("Invalid admin type. Must be: superadmin, admin, moderator, or viewer");
         }
 
         Admin existing = adminRepository.findById(admin.getId())
-                .orElseThrow(() -> new RuntimeException("Admin not found"));
+                .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
         // Check if username is being changed and if it already exists
         if (!existing.getUsername().equals(admin.getUsername())) {
             if (adminRepository.existsByUsername(admin.getUsername())) {
-                throw new RuntimeException("Username already exists");
+                throw new IllegalArgumentException("Username already exists");
             }
         }
 
@@ -145,26 +151,29 @@ public class AdminService {
         existing.setType(admin.getType());
         existing.setUpdatedAt(LocalDateTime.now());
 
-        // Encode password
-        existing.setPassword(passwordEncoder.encode(admin.getPassword()));
+        // Encode password only when it changed (clients may echo back the stored hash)
+        if (passwordChanged && !admin.getPassword().equals(existing.getPassword())) {
+            existing.setPassword(passwordEncoder.encode(admin.getPassword()));
+        }
 
         return adminRepository.save(existing);
     }
 
     // Soft delete admin
     public void deleteAdmin(Integer id) {
+        dataVersions.bump(Aggregate.ADMINS);
         Admin admin = adminRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Admin not found"));
+                .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
         if (admin.getIsDelete()) {
-            throw new RuntimeException("Admin already deleted");
+            throw new IllegalArgumentException("Admin already deleted");
         }
 
         // Check if this is the last active superadmin
         if ("superadmin".equalsIgnoreCase(admin.getType())) {
             long activeSuperadmins = adminRepository.countByTypeAndIsDelete("superadmin", false);
             if (activeSuperadmins <= 1) {
-                throw new RuntimeException("Cannot delete last active superadmin");
+                throw new IllegalArgumentException("Cannot delete last active superadmin");
             }
         }
 
@@ -177,24 +186,31 @@ public class AdminService {
     public Admin loginAdmin(String username, String password) {
         // Validate input
         if (username == null || username.trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw new IllegalArgumentException("Username is required");
         }
         if (password == null || password.isEmpty()) {
-            throw new RuntimeException("Password is required");
+            throw new IllegalArgumentException("Password is required");
         }
 
         // Find admin by username (only active admins)
         Admin admin = adminRepository.findByUsernameAndIsDelete(username, false)
-                .orElseThrow(() -> new RuntimeException("Invalid username or password"));
+                .orElseThrow(() -> new IllegalArgumentException("Invalid username or password"));
 
         // Double-check if account is deleted
         if (admin.getIsDelete()) {
-            throw new RuntimeException("Account has been deleted");
+            throw new IllegalArgumentException("Account has been deleted");
         }
 
         // Verify password
         if (!passwordEncoder.matches(password, admin.getPassword())) {
-            throw new RuntimeException("Invalid username or password");
+            throw new IllegalArgumentException("Invalid username or password");
+        }
+
+        // Rehash with the current cost while the raw password is at hand
+        if (passwordEncoder.upgradeEncoding(admin.getPassword())) {
+            admin.setPassword(passwordEncoder.encode(password));
+            adminRepository.save(admin);
+            dataVersions.bump(Aggregate.ADMINS);
         }
 
         return admin;
@@ -202,11 +218,12 @@ public class AdminService {
 
     // Restore deleted admin (optional)
     public Admin restoreAdmin(Integer id) {
+        dataVersions.bump(Aggregate.ADMINS);
         Admin admin = adminRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Admin not found"));
+                .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
         if (!admin.getIsDelete()) {
-            throw new RuntimeException("Admin is not deleted");
+            throw new IllegalArgumentException("Admin is not deleted");
         }
 
         admin.setIsDelete(false);
@@ -0,0 +1,89 @@
+package com.example.sample.service;
+
+import com.example.sample.model.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+
+// In-memory inverted index over book title/author/description, used when the database has no
+// full-text search (H2 in tests and the loadtest profile). Scoring mirrors the PostgreSQL setup:
+// title, author and description terms weigh 1.0, 0.4 and 0.2 (ts_rank's A/B/C defaults), every
+// query token must match as a prefix, and ties are broken by book id.
+public class BookSearchIndex {
+
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float AUTHOR_WEIGHT = 0.4f;
+    private static final float DESCRIPTION_WEIGHT = 0.2f;
+
+    // term -> (book id -> weight); sorted so prefix lookups are a subMap
+    private final NavigableMap<String, Map<Integer, Float>> postings = new TreeMap<>();
+    private final Map<Integer, Book> booksById = new HashMap<>();
+
+    public BookSearchIndex(Collection<Book> books) {
+        for (Book book : books) {
+            booksById.put(book.getBookId(), book);
+            add(book.getBookId(), book.getTitle(), TITLE_WEIGHT);
+            add(book.getBookId(), book.getAuthor(), AUTHOR_WEIGHT);
+            add(book.getBookId(), book.getDescription(), DESCRIPTION_WEIGHT);
+        }
+    }
+
+    // Lower-cased letter/digit runs; everything else separates tokens
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public Page<Book> search(List<String> queryTokens, Pageable pageable) {
+        Map<Integer, Float> scores = null;
+        for (String token : queryTokens) {
+            Map<Integer, Float> tokenScores = new HashMap<>();
+            for (Map<Integer, Float> posting : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                posting.forEach((bookId, weight) -> tokenScores.merge(bookId, weight, Float::sum));
+            }
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // AND semantics: keep only books matching every token
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((bookId, score) -> score + tokenScores.get(bookId));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        if (scores == null || scores.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        Map<Integer, Float> finalScores = scores;
+        List<Integer> ranked = new ArrayList<>(finalScores.keySet());
+        ranked.sort(Comparator.<Integer, Float>comparing(finalScores::get).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Book> content = new ArrayList<>(to - from);
+        for (Integer bookId : ranked.subList(from, to)) {
+            content.add(booksById.get(bookId));
+        }
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    private void add(Integer bookId, String text, float weight) {
+        for (String token : tokenize(text)) {
+            postings.computeIfAbsent(token, t -> new HashMap<>()).merge(bookId, weight, Float::sum);
+        }
+    }
+}
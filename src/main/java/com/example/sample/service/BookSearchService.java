@@ -0,0 +1,100 @@
+package com.example.sample.service;
+
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.model.Book;
+import com.example.sample.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Ranked title/author/description search. On PostgreSQL this runs against the generated
+// books.search_vector column and its GIN index (V4__book_search.sql); other databases fall back
+// to an in-memory BookSearchIndex that is rebuilt lazily when the books version changes.
+@Service
+@Transactional
+public class BookSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private final BookRepository bookRepository;
+    private final DataSource dataSource;
+    private final DataVersions dataVersions;
+
+    // Resolved on first search so startup does not need a database connection
+    private volatile Boolean fullTextAvailable;
+    private volatile VersionedIndex index;
+
+    @Autowired
+    public BookSearchService(BookRepository bookRepository, DataSource dataSource, DataVersions dataVersions) {
+        this.bookRepository = bookRepository;
+        this.dataSource = dataSource;
+        this.dataVersions = dataVersions;
+    }
+
+    public Page<Book> search(String query, int page, int size) {
+        List<String> tokens = BookSearchIndex.tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        if (isFullTextAvailable()) {
+            // Tokens are letters/digits only, so the tsquery needs no escaping; ':*' keeps the
+            // "title contains" feel of the old search for partial words
+            String tsQuery = tokens.stream().map(token -> token + ":*").collect(Collectors.joining(" & "));
+            return bookRepository.searchRanked(tsQuery, pageable);
+        }
+        return currentIndex().search(tokens, pageable);
+    }
+
+    // The index remembers the books version it was built from; the version is read before the
+    // rows, and BookService bumps it after commit, so a write that lands mid-build is never lost
+    private BookSearchIndex currentIndex() {
+        long version = dataVersions.version(Aggregate.BOOKS);
+        VersionedIndex current = index;
+        if (current == null || current.version() != version) {
+            synchronized (this) {
+                version = dataVersions.version(Aggregate.BOOKS);
+                current = index;
+                if (current == null || current.version() != version) {
+                    current = new VersionedIndex(version, new BookSearchIndex(bookRepository.findAll()));
+                    index = current;
+                }
+            }
+        }
+        return current.index();
+    }
+
+    private boolean isFullTextAvailable() {
+        Boolean available = fullTextAvailable;
+        if (available == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                available = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException e) {
+                // Not cached: ask again on the next search
+                return false;
+            }
+            fullTextAvailable = available;
+        }
+        return available;
+    }
+
+    private record VersionedIndex(long version, BookSearchIndex index) {
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.sample.service;
 
+import com.example.sample.config.CacheConfig;
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Book;
 import com.example.sample.repository.BookRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,12 +19,15 @@ import java.util.Optional;
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
-    public BookService(BookRepository bookRepository) {
+    public BookService(BookRepository bookRepository, DataVersions dataVersions) {
         this.bookRepository = bookRepository;
+        this.dataVersions = dataVersions;
     }
 
+    @Cacheable(CacheConfig.BOOKS)
     public List<Book> getAllBooks() {
         return bookRepository.findAll();
     }
@@ -44,7 +52,9 @@ public class BookService {
         return bookRepository.findByAuthorContainingIgnoreCase(keyword);
     }
 
+    @CacheEvict(value = CacheConfig.BOOKS, allEntries = true)
     public Book createBook(Book book) {
+        dataVersions.bump(Aggregate.BOOKS);
         if (book.getTitle() == null || book.getTitle().trim().isEmpty()) {
             throw new IllegalArgumentException("Book title is required");
         }
@@ -54,7 +64,9 @@ public class BookService {
         return bookRepository.save(book);
     }
 
+    @CacheEvict(value = CacheConfig.BOOKS, allEntries = true)
     public Book updateBook(Integer id, Book bookDetails) {
+        dataVersions.bump(Aggregate.BOOKS);
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + id));
 
@@ -73,7 +85,9 @@ public class BookService {
         return bookRepository.save(book);
     }
 
+    @CacheEvict(value = CacheConfig.BOOKS, allEntries = true)
     public void deleteBook(Integer id) {
+        dataVersions.bump(Aggregate.BOOKS);
         if (!bookRepository.existsById(id)) {
             throw new IllegalArgumentException("Book not found with id: " + id);
         }
@@ -1,10 +1,15 @@
 package com.example.sample.service;
 
+import com.example.sample.config.CacheConfig;
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Group;
 import com.example.sample.model.Person;
 import com.example.sample.repository.GroupRepository;
 import com.example.sample.repository.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,13 +23,16 @@ public class GroupService {
 
     private final GroupRepository groupRepository;
     private final PersonRepository personRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
-    public GroupService(GroupRepository groupRepository, PersonRepository personRepository) {
+    public GroupService(GroupRepository groupRepository, PersonRepository personRepository, DataVersions dataVersions) {
         this.groupRepository = groupRepository;
         this.personRepository = personRepository;
+        this.dataVersions = dataVersions;
     }
 
+    @Cacheable(CacheConfig.GROUPS)
     public List<Group> getAllGroups() {
         return groupRepository.findAll();
     }
@@ -37,14 +45,18 @@ public class GroupService {
         return groupRepository.findByGroupName(groupName);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public Group createGroup(Group group) {
+        dataVersions.bump(Aggregate.GROUPS);
         if (groupRepository.existsByGroupName(group.getGroupName())) {
             throw new IllegalArgumentException("Group name already exists");
         }
         return groupRepository.save(group);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public Group updateGroup(Integer id, Group groupDetails) {
+        dataVersions.bump(Aggregate.GROUPS);
         Group group = groupRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + id));
 
@@ -58,7 +70,9 @@ public class GroupService {
         return groupRepository.save(group);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public void deleteGroup(Integer id) {
+        dataVersions.bump(Aggregate.GROUPS);
         if (!groupRepository.existsById(id)) {
             throw new IllegalArgumentException("Group not found with id: " + id);
         }
@@ -71,7 +85,9 @@ public class GroupService {
         return group.getPersons();
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public Group addPersonToGroup(Integer groupId, Integer personId) {
+        dataVersions.bump(Aggregate.GROUPS);
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + groupId));
 
@@ -82,7 +98,9 @@ public class GroupService {
         return groupRepository.save(group);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public Group removePersonFromGroup(Integer groupId, Integer personId) {
+        dataVersions.bump(Aggregate.GROUPS);
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + groupId));
 
@@ -1,5 +1,10 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.dto.BulkParticipationRequest;
+import com.example.sample.dto.ParticipationCursorPage;
+import com.example.sample.dto.ParticipationSummary;
 import com.example.sample.model.Group;
 import com.example.sample.model.Participation;
 import com.example.sample.model.Person;
@@ -8,16 +13,25 @@ import com.example.sample.repository.GroupRepository;
 import com.example.sample.repository.ParticipationRepository;
 import com.example.sample.repository.PersonRepository;
 import com.example.sample.repository.SemesterRepository;
+import jakarta.persistence.criteria.JoinType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -27,20 +41,23 @@ public class ParticipationService {
     private final SemesterRepository semesterRepository;
     private final GroupRepository groupRepository;
     private final PersonRepository personRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
     public ParticipationService(ParticipationRepository participationRepository,
                                SemesterRepository semesterRepository,
                                GroupRepository groupRepository,
-                               PersonRepository personRepository) {
+                               PersonRepository personRepository,
+                               DataVersions dataVersions) {
         this.participationRepository = participationRepository;
         this.semesterRepository = semesterRepository;
         this.groupRepository = groupRepository;
         this.personRepository = personRepository;
+        this.dataVersions = dataVersions;
     }
 
     public List<Participation> getAllParticipations() {
-        return participationRepository.findAll();
+        return participationRepository.findAllWithDetails();
     }
 
     public Optional<Participation> getParticipationById(Integer id) {
@@ -48,21 +65,35 @@ public class ParticipationService {
     }
 
     public List<Participation> getParticipationsBySemester(Integer semesterId) {
-        return participationRepository.findBySemester_SemesterId(semesterId);
+        return participationRepository.findWithDetailsBySemesterId(semesterId);
     }
 
     public List<Participation> getParticipationsByGroup(Integer groupId) {
-        return participationRepository.findByGroup_GroupId(groupId);
+        return participationRepository.findWithDetailsByGroupId(groupId);
     }
 
     public List<Participation> getParticipationsByPerson(Integer personId) {
-        return participationRepository.findByPerson_PersonId(personId);
+        return participationRepository.findWithDetailsByPersonId(personId);
+    }
+
+    public List<Participation> getParticipationsByPersonAndSemester(Integer personId, Integer semesterId) {
+        return participationRepository.findWithDetailsByPersonIdAndSemesterId(personId, semesterId);
+    }
+
+    public List<Participation> getParticipationsByPersonSemesterAndGroup(Integer personId, Integer semesterId,
+                                                                         Integer groupId) {
+        return participationRepository.findWithDetailsByPersonIdAndSemesterIdAndGroupId(personId, semesterId, groupId);
+    }
+
+    public List<ParticipationSummary> getParticipationSummaries(Integer semesterId, Integer groupId, Integer personId) {
+        return participationRepository.findSummaries(semesterId, groupId, personId);
     }
 
     public Participation createParticipation(Participation participation,
                                             Integer semesterId,
                                             Integer groupId,
                                             Integer personId) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -72,10 +103,7 @@ public class ParticipationService {
         Person person = personRepository.findById(personId)
                 .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + personId));
 
-        String status = participation.getStatus().toLowerCase();
-        if (!status.equals("ontime") && !status.equals("late") && !status.equals("absent")) {
-            throw new IllegalArgumentException("Status must be 'ontime', 'late', or 'absent'");
-        }
+        validateStatus(participation.getStatus());
 
         if (participation.getParticipationDate() == null) {
             throw new IllegalArgumentException("Participation date is required");
@@ -87,15 +115,75 @@ public class ParticipationService {
         return participationRepository.save(participation);
     }
 
+    // Validate the whole batch first, then insert it in one saveAll (JDBC-batched via the pooled sequence)
+    public List<Participation> createParticipations(BulkParticipationRequest request) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
+        if (request.getParticipations() == null || request.getParticipations().isEmpty()) {
+            throw new IllegalArgumentException("At least one participation is required");
+        }
+        if (request.getParticipationDate() == null) {
+            throw new IllegalArgumentException("Participation date is required");
+        }
+        if (request.getSemesterId() == null || request.getGroupId() == null) {
+            throw new IllegalArgumentException("Semester id and group id are required");
+        }
+
+        Semester semester = semesterRepository.findById(request.getSemesterId())
+                .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + request.getSemesterId()));
+
+        Group group = groupRepository.findById(request.getGroupId())
+                .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + request.getGroupId()));
+
+        Set<Integer> personIds = new LinkedHashSet<>();
+        for (BulkParticipationRequest.Entry entry : request.getParticipations()) {
+            if (entry.getPersonId() == null) {
+                throw new IllegalArgumentException("Person id is required for every participation");
+            }
+            if (!personIds.add(entry.getPersonId())) {
+                throw new IllegalArgumentException("Duplicate person id in batch: " + entry.getPersonId());
+            }
+            validateStatus(entry.getStatus());
+        }
+
+        Map<Integer, Person> persons = new HashMap<>();
+        for (Person person : personRepository.findAllById(personIds)) {
+            persons.put(person.getPersonId(), person);
+        }
+        for (Integer personId : personIds) {
+            if (!persons.containsKey(personId)) {
+                throw new IllegalArgumentException("Person not found with id: " + personId);
+            }
+        }
+
+        List<Participation> participations = new ArrayList<>();
+        for (BulkParticipationRequest.Entry entry : request.getParticipations()) {
+            Participation participation = new Participation(entry.getStatus());
+            participation.setParticipationDate(request.getParticipationDate());
+            participation.setSemester(semester);
+            participation.setGroup(group);
+            participation.setPerson(persons.get(entry.getPersonId()));
+            participations.add(participation);
+        }
+        return participationRepository.saveAll(participations);
+    }
+
+    private void validateStatus(String status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status must be 'ontime', 'late', or 'absent'");
+        }
+        String normalized = status.toLowerCase();
+        if (!normalized.equals("ontime") && !normalized.equals("late") && !normalized.equals("absent")) {
+            throw new IllegalArgumentException("Status must be 'ontime', 'late', or 'absent'");
+        }
+    }
+
     public Participation updateParticipation(Integer id, Participation participationDetails) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         Participation participation = participationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Participation not found with id: " + id));
 
         if (participationDetails.getStatus() != null) {
-            String status = participationDetails.getStatus().toLowerCase();
-            if (!status.equals("ontime") && !status.equals("late") && !status.equals("absent")) {
-                throw new IllegalArgumentException("Status must be 'ontime', 'late', or 'absent'");
-            }
+            validateStatus(participationDetails.getStatus());
             participation.setStatus(participationDetails.getStatus());
         }
 
@@ -107,6 +195,7 @@ public class ParticipationService {
     }
 
     public void deleteParticipation(Integer id) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         if (!participationRepository.existsById(id)) {
             throw new IllegalArgumentException("Participation not found with id: " + id);
         }
@@ -133,6 +222,95 @@ public class ParticipationService {
     public Page<Participation> searchParticipations(Integer semesterId, Integer groupId, Integer personId,
                                                      String status, LocalDate startDate, LocalDate endDate,
                                                      Pageable pageable) {
+        Specification<Participation> spec = buildSearchSpecification(
+            semesterId, groupId, personId, status, startDate, endDate);
+        return participationRepository.findAll(spec.and(fetchDetails()), pageable);
+    }
+
+    // Keyset (seek) pagination ordered by (participationDate, participationId).
+    // Each page seeks past the cursor instead of skipping OFFSET rows, and the COUNT(*) is optional.
+    public ParticipationCursorPage searchParticipationsByCursor(Integer semesterId, Integer groupId, Integer personId,
+                                                                String status, LocalDate startDate, LocalDate endDate,
+                                                                String cursor, int size, boolean ascending,
+                                                                boolean includeTotal) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+
+        Specification<Participation> filters = buildSearchSpecification(
+            semesterId, groupId, personId, status, startDate, endDate);
+        Specification<Participation> spec = filters.and(fetchDetails());
+
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = decodeCursor(cursor);
+            LocalDate cursorDate = LocalDate.parse(position[0]);
+            Integer cursorId = Integer.valueOf(position[1]);
+            spec = spec.and((root, query, cb) -> ascending
+                ? cb.or(
+                    cb.greaterThan(root.get("participationDate"), cursorDate),
+                    cb.and(cb.equal(root.get("participationDate"), cursorDate),
+                           cb.greaterThan(root.get("participationId"), cursorId)))
+                : cb.or(
+                    cb.lessThan(root.get("participationDate"), cursorDate),
+                    cb.and(cb.equal(root.get("participationDate"), cursorDate),
+                           cb.lessThan(root.get("participationId"), cursorId))));
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, "participationDate").and(Sort.by(direction, "participationId"));
+
+        // Fetch one extra row to learn whether another page exists
+        List<Participation> rows = participationRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<Participation> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Participation last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getParticipationDate(), last.getParticipationId());
+        }
+
+        Long total = includeTotal ? participationRepository.count(filters) : null;
+        return new ParticipationCursorPage(content, nextCursor, hasNext, content.size(), total);
+    }
+
+    private String encodeCursor(LocalDate date, Integer id) {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] position = raw.split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDate.parse(position[0]);
+            Integer.valueOf(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // Fetch-join the EAGER associations for list queries (skipped for the COUNT query)
+    private Specification<Participation> fetchDetails() {
+        return (root, query, cb) -> {
+            Class<?> resultType = query.getResultType();
+            if (resultType != Long.class && resultType != long.class) {
+                root.fetch("semester");
+                root.fetch("group");
+                root.fetch("person");
+                root.fetch("weeklyRecord", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    private Specification<Participation> buildSearchSpecification(Integer semesterId, Integer groupId,
+                                                                  Integer personId, String status,
+                                                                  LocalDate startDate, LocalDate endDate) {
         Specification<Participation> spec = Specification.where(null);
 
         if (semesterId != null) {
@@ -160,6 +338,6 @@ public class ParticipationService {
                 cb.lessThanOrEqualTo(root.get("participationDate"), endDate));
         }
 
-        return participationRepository.findAll(spec, pageable);
+        return spec;
     }
 }
\ No newline at end of file
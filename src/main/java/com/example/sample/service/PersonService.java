@@ -1,5 +1,7 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Person;
 import com.example.sample.repository.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +18,13 @@ public class PersonService {
 
     private final PersonRepository personRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DataVersions dataVersions;
 
     @Autowired
-    public PersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder) {
+    public PersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder, DataVersions dataVersions) {
         this.personRepository = personRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dataVersions = dataVersions;
     }
 
     public List<Person> getAllPersons() {
@@ -32,6 +36,11 @@ public class PersonService {
     }
 
     public Person createPerson(Person person) {
+        dataVersions.bump(Aggregate.PERSONS);
+        if (person.getName() != null && personRepository.existsByNameIgnoreCase(person.getName())) {
+            throw new IllegalArgumentException("Person name already exists");
+        }
+
         // Encrypt password before saving
         if (person.getPassword() != null && !person.getPassword().isEmpty()) {
             person.setPassword(passwordEncoder.encode(person.getPassword()));
@@ -40,10 +49,15 @@ public class PersonService {
     }
 
     public Person updatePerson(Integer id, Person personDetails) {
+        dataVersions.bump(Aggregate.PERSONS);
         Person person = personRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + id));
 
         if (personDetails.getName() != null) {
+            if (!personDetails.getName().equalsIgnoreCase(person.getName())
+                    && personRepository.existsByNameIgnoreCase(personDetails.getName())) {
+                throw new IllegalArgumentException("Person name already exists");
+            }
             person.setName(personDetails.getName());
         }
 
@@ -56,6 +70,7 @@ public class PersonService {
     }
 
     public void deletePerson(Integer id) {
+        dataVersions.bump(Aggregate.PERSONS);
         if (!personRepository.existsById(id)) {
             throw new IllegalArgumentException("Person not found with id: " + id);
         }
@@ -63,23 +78,24 @@ public class PersonService {
     }
 
     public Person authenticate(String name, String password) {
-        List<Person> persons = personRepository.findAll();
-        Person person = persons.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
+        Person person = personRepository.findByNameIgnoreCase(name)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid name or password"));
 
         if (!passwordEncoder.matches(password, person.getPassword())) {
             throw new IllegalArgumentException("Invalid name or password");
         }
 
+        // Rehash with the current cost while the raw password is at hand
+        if (passwordEncoder.upgradeEncoding(person.getPassword())) {
+            person.setPassword(passwordEncoder.encode(password));
+            personRepository.save(person);
+            dataVersions.bump(Aggregate.PERSONS);
+        }
+
         return person;
     }
 
     public Person findByName(String name) {
-        return personRepository.findAll().stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return personRepository.findByNameIgnoreCase(name).orElse(null);
     }
 }
\ No newline at end of file
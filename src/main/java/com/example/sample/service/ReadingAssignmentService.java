@@ -1,5 +1,7 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.ReadingAssignment;
 import com.example.sample.model.Semester;
 import com.example.sample.repository.ReadingAssignmentRepository;
@@ -17,12 +19,15 @@ public class ReadingAssignmentService {
 
     private final ReadingAssignmentRepository assignmentRepository;
     private final SemesterRepository semesterRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
     public ReadingAssignmentService(ReadingAssignmentRepository assignmentRepository,
-                                   SemesterRepository semesterRepository) {
+                                   SemesterRepository semesterRepository,
+                                   DataVersions dataVersions) {
         this.assignmentRepository = assignmentRepository;
         this.semesterRepository = semesterRepository;
+        this.dataVersions = dataVersions;
     }
 
     public List<ReadingAssignment> getAllAssignments() {
@@ -38,6 +43,7 @@ public class ReadingAssignmentService {
     }
 
     public ReadingAssignment createAssignment(ReadingAssignment assignment, Integer semesterId) {
+        dataVersions.bump(Aggregate.ASSIGNMENTS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -46,6 +52,7 @@ public class ReadingAssignmentService {
     }
 
     public ReadingAssignment updateAssignment(Integer id, ReadingAssignment assignmentDetails) {
+        dataVersions.bump(Aggregate.ASSIGNMENTS);
         ReadingAssignment assignment = assignmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Assignment not found with id: " + id));
 
@@ -65,6 +72,7 @@ public class ReadingAssignmentService {
     }
 
     public void deleteAssignment(Integer id) {
+        dataVersions.bump(Aggregate.ASSIGNMENTS);
         if (!assignmentRepository.existsById(id)) {
             throw new IllegalArgumentException("Assignment not found with id: " + id);
         }
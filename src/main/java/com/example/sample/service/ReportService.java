@@ -0,0 +1,41 @@
+package com.example.sample.service;
+
+import com.example.sample.dto.RecordAggregate;
+import com.example.sample.repository.SemesterRepository;
+import com.example.sample.repository.WeeklyRecordRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class ReportService {
+
+    private final WeeklyRecordRepository recordRepository;
+    private final SemesterRepository semesterRepository;
+
+    @Autowired
+    public ReportService(WeeklyRecordRepository recordRepository,
+                         SemesterRepository semesterRepository) {
+        this.recordRepository = recordRepository;
+        this.semesterRepository = semesterRepository;
+    }
+
+    public List<RecordAggregate> getPersonTotalsForSemester(Integer semesterId) {
+        requireSemester(semesterId);
+        return recordRepository.aggregateByPersonForSemester(semesterId);
+    }
+
+    public List<RecordAggregate> getGroupTotalsForSemester(Integer semesterId) {
+        requireSemester(semesterId);
+        return recordRepository.aggregateByGroupForSemester(semesterId);
+    }
+
+    private void requireSemester(Integer semesterId) {
+        if (!semesterRepository.existsById(semesterId)) {
+            throw new IllegalArgumentException("Semester not found with id: " + semesterId);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.sample.service;
 
+import com.example.sample.config.CacheConfig;
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Book;
 import com.example.sample.model.Group;
 import com.example.sample.model.Semester;
@@ -7,6 +10,8 @@ import com.example.sample.repository.BookRepository;
 import com.example.sample.repository.GroupRepository;
 import com.example.sample.repository.SemesterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,16 +26,20 @@ public class SemesterService {
     private final SemesterRepository semesterRepository;
     private final GroupRepository groupRepository;
     private final BookRepository bookRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
     public SemesterService(SemesterRepository semesterRepository,
                           GroupRepository groupRepository,
-                          BookRepository bookRepository) {
+                          BookRepository bookRepository,
+                          DataVersions dataVersions) {
         this.semesterRepository = semesterRepository;
         this.groupRepository = groupRepository;
         this.bookRepository = bookRepository;
+        this.dataVersions = dataVersions;
     }
 
+    @Cacheable(CacheConfig.SEMESTERS)
     public List<Semester> getAllSemesters() {
         return semesterRepository.findAll();
     }
@@ -39,14 +48,18 @@ public class SemesterService {
         return semesterRepository.findById(id);
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester createSemester(Semester semester) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         if (semester.getEdate().isBefore(semester.getSdate())) {
             throw new IllegalArgumentException("End date must be after start date");
         }
         return semesterRepository.save(semester);
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester updateSemester(Integer id, Semester semesterDetails) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         Semester semester = semesterRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + id));
 
@@ -71,7 +84,9 @@ public class SemesterService {
         return semesterRepository.save(semester);
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public void deleteSemester(Integer id) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         if (!semesterRepository.existsById(id)) {
             throw new IllegalArgumentException("Semester not found with id: " + id);
         }
@@ -84,7 +99,9 @@ public class SemesterService {
         return semester.getGroups();
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester addGroupToSemester(Integer semesterId, Integer groupId) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -95,7 +112,9 @@ public class SemesterService {
         return semesterRepository.save(semester);
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester removeGroupFromSemester(Integer semesterId, Integer groupId) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -116,7 +135,9 @@ public class SemesterService {
         return semester.getBooks();
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester addBookToSemester(Integer semesterId, Integer bookId) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -127,7 +148,9 @@ public class SemesterService {
         return semesterRepository.save(semester);
     }
 
+    @CacheEvict(value = CacheConfig.SEMESTERS, allEntries = true)
     public Semester removeBookFromSemester(Integer semesterId, Integer bookId) {
+        dataVersions.bump(Aggregate.SEMESTERS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
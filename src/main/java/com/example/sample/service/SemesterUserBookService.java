@@ -1,5 +1,7 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
 import com.example.sample.model.Book;
 import com.example.sample.model.Person;
 import com.example.sample.model.Semester;
@@ -23,16 +25,19 @@ public class SemesterUserBookService {
     private final SemesterRepository semesterRepository;
     private final PersonRepository personRepository;
     private final BookRepository bookRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
     public SemesterUserBookService(SemesterUserBookRepository semesterUserBookRepository,
                                    SemesterRepository semesterRepository,
                                    PersonRepository personRepository,
-                                   BookRepository bookRepository) {
+                                   BookRepository bookRepository,
+                                   DataVersions dataVersions) {
         this.semesterUserBookRepository = semesterUserBookRepository;
         this.semesterRepository = semesterRepository;
         this.personRepository = personRepository;
         this.bookRepository = bookRepository;
+        this.dataVersions = dataVersions;
     }
 
     public List<SemesterUserBook> getAllSemesterUserBooks() {
@@ -64,6 +69,7 @@ public class SemesterUserBookService {
     }
 
     public SemesterUserBook createSemesterUserBook(Integer semesterId, Integer personId, Integer bookId, SemesterUserBook semesterUserBookData) {
+        dataVersions.bump(Aggregate.USER_BOOKS);
         Semester semester = semesterRepository.findById(semesterId)
                 .orElseThrow(() -> new IllegalArgumentException("Semester not found with id: " + semesterId));
 
@@ -84,6 +90,7 @@ public class SemesterUserBookService {
     }
 
     public SemesterUserBook updateSemesterUserBook(Integer id, SemesterUserBook semesterUserBookData) {
+        dataVersions.bump(Aggregate.USER_BOOKS);
         SemesterUserBook semesterUserBook = semesterUserBookRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("SemesterUserBook not found with id: " + id));
 
@@ -99,6 +106,7 @@ public class SemesterUserBookService {
     }
 
     public void deleteSemesterUserBook(Integer id) {
+        dataVersions.bump(Aggregate.USER_BOOKS);
         if (!semesterUserBookRepository.existsById(id)) {
             throw new IllegalArgumentException("SemesterUserBook not found with id: " + id);
         }
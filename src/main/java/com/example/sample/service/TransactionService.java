@@ -0,0 +1,173 @@
+package com.example.sample.service;
+
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.model.Transaction;
+import com.example.sample.model.TransactionSummary;
+import com.example.sample.repository.TransactionRepository;
+import com.example.sample.repository.TransactionSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Transactional
+public class TransactionService {
+
+    private static final Set<String> TYPES = Set.of("INCOME", "EXPENSE");
+    private static final Set<String> PAYMENT_METHODS = Set.of("CARD", "CASH", "DEBIT_CARD");
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryRepository summaryRepository;
+    private final DataVersions dataVersions;
+
+    @Autowired
+    public TransactionService(TransactionRepository transactionRepository,
+                              TransactionSummaryRepository summaryRepository,
+                              DataVersions dataVersions) {
+        this.transactionRepository = transactionRepository;
+        this.summaryRepository = summaryRepository;
+        this.dataVersions = dataVersions;
+    }
+
+    public List<Transaction> getAllTransactions() {
+        return transactionRepository.findAllByOrderByDateDescTransactionIdDesc();
+    }
+
+    public Optional<Transaction> getTransactionById(Integer id) {
+        return transactionRepository.findById(id);
+    }
+
+    public List<Transaction> getTransactionsByDate(LocalDate date) {
+        return transactionRepository.findByDateOrderByTransactionIdDesc(date);
+    }
+
+    public List<Transaction> getTransactionsByType(String type) {
+        return transactionRepository.findByTypeOrderByDateDescTransactionIdDesc(normalize(type, TYPES, "Type"));
+    }
+
+    public List<Transaction> getTransactionsByPaymentMethod(String paymentMethod) {
+        return transactionRepository.findByPaymentMethodOrderByDateDescTransactionIdDesc(
+                normalize(paymentMethod, PAYMENT_METHODS, "Payment method"));
+    }
+
+    // Primary-key read of the running totals; independent of ledger size
+    @Transactional(readOnly = true)
+    public TransactionSummary getSummary() {
+        return summaryRepository.findById(TransactionSummary.SINGLETON_ID)
+                .orElseGet(() -> new TransactionSummary(BigDecimal.ZERO, BigDecimal.ZERO, 0L));
+    }
+
+    public Transaction createTransaction(Transaction transaction) {
+        dataVersions.bump(Aggregate.TRANSACTIONS);
+        validate(transaction);
+        ensureSummary();
+        Transaction saved = transactionRepository.save(transaction);
+        applyToSummary(saved, 1);
+        return saved;
+    }
+
+    public Transaction updateTransaction(Integer id, Transaction transactionDetails) {
+        dataVersions.bump(Aggregate.TRANSACTIONS);
+        Transaction transaction = transactionRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Transaction not found with id: " + id));
+        ensureSummary();
+
+        // Take the old amount out of the summary before the fields change
+        applyToSummary(transaction, -1);
+
+        if (transactionDetails.getAmount() != null) {
+            transaction.setAmount(transactionDetails.getAmount());
+        }
+        if (transactionDetails.getType() != null) {
+            transaction.setType(transactionDetails.getType());
+        }
+        if (transactionDetails.getPaymentMethod() != null) {
+            transaction.setPaymentMethod(transactionDetails.getPaymentMethod());
+        }
+        if (transactionDetails.getDate() != null) {
+            transaction.setDate(transactionDetails.getDate());
+        }
+        if (transactionDetails.getDescription() != null) {
+            transaction.setDescription(transactionDetails.getDescription());
+        }
+        validate(transaction);
+
+        Transaction saved = transactionRepository.save(transaction);
+        applyToSummary(saved, 1);
+        return saved;
+    }
+
+    public void deleteTransaction(Integer id) {
+        dataVersions.bump(Aggregate.TRANSACTIONS);
+        Transaction transaction = transactionRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Transaction not found with id: " + id));
+        ensureSummary();
+        transactionRepository.delete(transaction);
+        applyToSummary(transaction, -1);
+    }
+
+    // Recomputes the summary from the ledger (full scan); for repairs after manual data fixes
+    public TransactionSummary rebuildSummary() {
+        dataVersions.bump(Aggregate.TRANSACTIONS);
+        summaryRepository.insertIfMissing(TransactionSummary.SINGLETON_ID);
+        return recomputeSummary();
+    }
+
+    // sign = 1 adds the transaction to the running totals, -1 removes it
+    private void applyToSummary(Transaction transaction, int sign) {
+        BigDecimal amount = sign > 0 ? transaction.getAmount() : transaction.getAmount().negate();
+        BigDecimal income = "INCOME".equals(transaction.getType()) ? amount : BigDecimal.ZERO;
+        BigDecimal expense = "EXPENSE".equals(transaction.getType()) ? amount : BigDecimal.ZERO;
+
+        summaryRepository.applyDelta(TransactionSummary.SINGLETON_ID, income, expense, sign);
+    }
+
+    // The migration seeds the summary row; a schema created by Hibernate (tests, load tests)
+    // starts without one. Only the writer whose insert created the row fills it from the ledger;
+    // concurrent first writers wait on that insert and then just apply their deltas.
+    private void ensureSummary() {
+        if (!summaryRepository.existsById(TransactionSummary.SINGLETON_ID)
+                && summaryRepository.insertIfMissing(TransactionSummary.SINGLETON_ID) > 0) {
+            recomputeSummary();
+        }
+    }
+
+    // Locks the summary row before summing the ledger. Writers that already applied a delta hold
+    // the lock, so their rows are committed (and counted) by the time the sum runs; writers still
+    // in flight block in applyDelta and add their delta after this commits.
+    private TransactionSummary recomputeSummary() {
+        TransactionSummary summary = summaryRepository.findByIdForUpdate(TransactionSummary.SINGLETON_ID)
+                .orElseThrow(() -> new IllegalStateException("Transaction summary row is missing"));
+        Object[] totals = transactionRepository.computeTotals().get(0);
+        summary.setTotalIncome(new BigDecimal(totals[0].toString()));
+        summary.setTotalExpense(new BigDecimal(totals[1].toString()));
+        summary.setTransactionCount(((Number) totals[2]).longValue());
+        return summary;
+    }
+
+    private void validate(Transaction transaction) {
+        if (transaction.getAmount() == null || transaction.getAmount().signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be greater than 0");
+        }
+        if (transaction.getDate() == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+        transaction.setType(normalize(transaction.getType(), TYPES, "Type"));
+        transaction.setPaymentMethod(normalize(transaction.getPaymentMethod(), PAYMENT_METHODS, "Payment method"));
+    }
+
+    private String normalize(String value, Set<String> allowed, String fieldName) {
+        String normalized = value == null ? null : value.trim().toUpperCase();
+        if (normalized == null || !allowed.contains(normalized)) {
+            throw new IllegalArgumentException(fieldName + " must be one of " + String.join(", ", allowed));
+        }
+        return normalized;
+    }
+}
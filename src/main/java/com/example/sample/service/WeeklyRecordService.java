@@ -1,5 +1,8 @@
 package com.example.sample.service;
 
+import com.example.sample.config.DataVersions;
+import com.example.sample.config.DataVersions.Aggregate;
+import com.example.sample.dto.BulkWeeklyRecordRequest;
 import com.example.sample.model.Participation;
 import com.example.sample.model.WeeklyRecord;
 import com.example.sample.repository.ParticipationRepository;
@@ -8,8 +11,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -17,12 +25,15 @@ public class WeeklyRecordService {
 
     private final WeeklyRecordRepository recordRepository;
     private final ParticipationRepository participationRepository;
+    private final DataVersions dataVersions;
 
     @Autowired
     public WeeklyRecordService(WeeklyRecordRepository recordRepository,
-                              ParticipationRepository participationRepository) {
+                              ParticipationRepository participationRepository,
+                              DataVersions dataVersions) {
         this.recordRepository = recordRepository;
         this.participationRepository = participationRepository;
+        this.dataVersions = dataVersions;
     }
 
     public List<WeeklyRecord> getAllRecords() {
@@ -46,9 +57,58 @@ public class WeeklyRecordService {
     }
 
     public WeeklyRecord createRecord(WeeklyRecord record, Integer participationId) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         Participation participation = participationRepository.findById(participationId)
                 .orElseThrow(() -> new IllegalArgumentException("Participation not found with id: " + participationId));
 
+        validateNewRecord(record);
+
+        record.setParticipation(participation);
+        return recordRepository.save(record);
+    }
+
+    // Validate the whole batch first, then insert it in one saveAll (JDBC-batched via the pooled sequence)
+    public List<WeeklyRecord> createRecords(BulkWeeklyRecordRequest request) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
+        if (request.getRecords() == null || request.getRecords().isEmpty()) {
+            throw new IllegalArgumentException("At least one record is required");
+        }
+
+        Set<Integer> participationIds = new LinkedHashSet<>();
+        for (BulkWeeklyRecordRequest.Entry entry : request.getRecords()) {
+            if (entry.getParticipationId() == null || entry.getRecord() == null) {
+                throw new IllegalArgumentException("Participation id and record are required for every entry");
+            }
+            if (!participationIds.add(entry.getParticipationId())) {
+                throw new IllegalArgumentException("Duplicate participation id in batch: " + entry.getParticipationId());
+            }
+            validateNewRecord(entry.getRecord());
+        }
+
+        Map<Integer, Participation> participations = new HashMap<>();
+        for (Participation participation : participationRepository.findWithDetailsByIdIn(participationIds)) {
+            participations.put(participation.getParticipationId(), participation);
+        }
+        for (Integer participationId : participationIds) {
+            Participation participation = participations.get(participationId);
+            if (participation == null) {
+                throw new IllegalArgumentException("Participation not found with id: " + participationId);
+            }
+            if (participation.getWeeklyRecord() != null) {
+                throw new IllegalArgumentException("Participation already has a weekly record: " + participationId);
+            }
+        }
+
+        List<WeeklyRecord> records = new ArrayList<>();
+        for (BulkWeeklyRecordRequest.Entry entry : request.getRecords()) {
+            WeeklyRecord record = entry.getRecord();
+            record.setParticipation(participations.get(entry.getParticipationId()));
+            records.add(record);
+        }
+        return recordRepository.saveAll(records);
+    }
+
+    private void validateNewRecord(WeeklyRecord record) {
         validateService(record.getService1(), "Service1");
         validateService(record.getService2(), "Service2");
 
@@ -73,9 +133,6 @@ public class WeeklyRecordService {
         } else if (record.getFine() < 0) {
             throw new IllegalArgumentException("Fine must be 0 or greater");
         }
-
-        record.setParticipation(participation);
-        return recordRepository.save(record);
     }
 
     private void validateService(String service, String fieldName) {
@@ -88,6 +145,7 @@ public class WeeklyRecordService {
     }
 
     public WeeklyRecord updateRecord(Integer id, WeeklyRecord recordDetails) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         WeeklyRecord record = recordRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Record not found with id: " + id));
 
@@ -156,6 +214,7 @@ public class WeeklyRecordService {
     }
 
     public void deleteRecord(Integer id) {
+        dataVersions.bump(Aggregate.PARTICIPATIONS);
         if (!recordRepository.existsById(id)) {
             throw new IllegalArgumentException("Record not found with id: " + id);
         }
@@ -0,0 +1,104 @@
+-- Baseline schema matching the JPA entities (previously created by ddl-auto=update).
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate),
+-- so this script only runs on an empty database; IF NOT EXISTS keeps it safe either way.
+
+CREATE TABLE IF NOT EXISTS admin (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    VARCHAR(50)  NOT NULL UNIQUE,
+    name        VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    type        VARCHAR(20)  NOT NULL,
+    is_delete   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS persons (
+    person_id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "groups" (
+    group_id    INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_name  VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS semesters (
+    semester_id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    sdate       DATE         NOT NULL,
+    edate       DATE         NOT NULL,
+    is_break    BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS books (
+    book_id     INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    author      VARCHAR(255) NOT NULL,
+    description TEXT
+);
+
+CREATE TABLE IF NOT EXISTS group_member (
+    group_id    INTEGER NOT NULL REFERENCES "groups" (group_id),
+    person_id   INTEGER NOT NULL REFERENCES persons (person_id),
+    PRIMARY KEY (group_id, person_id)
+);
+
+CREATE TABLE IF NOT EXISTS semester_group (
+    semester_id INTEGER NOT NULL REFERENCES semesters (semester_id),
+    group_id    INTEGER NOT NULL REFERENCES "groups" (group_id),
+    PRIMARY KEY (semester_id, group_id)
+);
+
+CREATE TABLE IF NOT EXISTS semester_book (
+    semester_id INTEGER NOT NULL REFERENCES semesters (semester_id),
+    book_id     INTEGER NOT NULL REFERENCES books (book_id),
+    PRIMARY KEY (semester_id, book_id)
+);
+
+CREATE TABLE IF NOT EXISTS reading_assignments (
+    assignment_id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    semester_id   INTEGER      NOT NULL REFERENCES semesters (semester_id),
+    title         VARCHAR(255) NOT NULL,
+    description   TEXT,
+    assigned_date DATE         NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS semester_user_book (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    semester_id INTEGER      NOT NULL REFERENCES semesters (semester_id),
+    person_id   INTEGER      NOT NULL REFERENCES persons (person_id),
+    book_id     INTEGER      NOT NULL REFERENCES books (book_id),
+    status      VARCHAR(255) NOT NULL,
+    date        DATE         NOT NULL
+);
+
+-- Participation and WeeklyRecord ids come from pooled sequences (allocationSize = 50)
+CREATE SEQUENCE IF NOT EXISTS participations_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS weekly_records_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS participations (
+    participation_id   INTEGER      PRIMARY KEY,
+    semester_id        INTEGER      NOT NULL REFERENCES semesters (semester_id),
+    group_id           INTEGER      NOT NULL REFERENCES "groups" (group_id),
+    person_id          INTEGER      NOT NULL REFERENCES persons (person_id),
+    status             VARCHAR(255) NOT NULL,
+    participation_date DATE         NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS weekly_records (
+    record_id        INTEGER      PRIMARY KEY,
+    participation_id INTEGER      NOT NULL UNIQUE REFERENCES participations (participation_id),
+    week_number      INTEGER      NOT NULL,
+    service1         VARCHAR(255) NOT NULL,
+    service2         VARCHAR(255) NOT NULL,
+    summary1         BOOLEAN      NOT NULL,
+    summary2         BOOLEAN      NOT NULL,
+    qt               INTEGER      NOT NULL,
+    reading          INTEGER      NOT NULL,
+    pray             INTEGER      NOT NULL,
+    memorize         INTEGER      NOT NULL,
+    submitted_date   DATE,
+    fine             INTEGER      NOT NULL
+);
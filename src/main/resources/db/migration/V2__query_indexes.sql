@@ -0,0 +1,52 @@
+-- Indexes for the foreign keys and lookups the repositories actually use. PostgreSQL does not
+-- index foreign key columns on its own. Statements are idempotent because databases that ran the
+-- old supabase/migrations scripts already have some of these objects.
+
+-- Member login (PersonRepository.findByNameIgnoreCase compiles to upper(name) = upper(?)).
+-- Fails if two members already share a name ignoring case; resolve those rows first.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_persons_name_upper ON persons (UPPER(name));
+
+-- participations: person dashboard (person, semester, group), semester reports (semester, group),
+-- group lists, and keyset pagination on (participation_date, participation_id).
+-- person_id and semester_id are covered as leading columns of the first two.
+CREATE INDEX IF NOT EXISTS idx_participations_person_semester_group
+    ON participations (person_id, semester_id, group_id);
+CREATE INDEX IF NOT EXISTS idx_participations_semester_group
+    ON participations (semester_id, group_id);
+CREATE INDEX IF NOT EXISTS idx_participations_group
+    ON participations (group_id);
+CREATE INDEX IF NOT EXISTS idx_participations_date_id
+    ON participations (participation_date, participation_id);
+
+-- weekly_records.participation_id is covered by its unique constraint.
+
+-- semester_user_book: by (semester, person), (semester, book), person and book
+CREATE INDEX IF NOT EXISTS idx_semester_user_book_semester_person
+    ON semester_user_book (semester_id, person_id);
+CREATE INDEX IF NOT EXISTS idx_semester_user_book_semester_book
+    ON semester_user_book (semester_id, book_id);
+CREATE INDEX IF NOT EXISTS idx_semester_user_book_person
+    ON semester_user_book (person_id);
+CREATE INDEX IF NOT EXISTS idx_semester_user_book_book
+    ON semester_user_book (book_id);
+
+-- Reverse side of the join tables (the primary keys cover the forward side)
+CREATE INDEX IF NOT EXISTS idx_group_member_person ON group_member (person_id);
+CREATE INDEX IF NOT EXISTS idx_semester_group_group ON semester_group (group_id);
+CREATE INDEX IF NOT EXISTS idx_semester_book_book ON semester_book (book_id);
+
+CREATE INDEX IF NOT EXISTS idx_reading_assignments_semester ON reading_assignments (semester_id);
+
+-- Pooled sequences for databases created before Flyway. Never move a sequence backwards:
+-- a running instance may still hold a block below its current value.
+CREATE SEQUENCE IF NOT EXISTS participations_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('participations_seq', GREATEST(
+    (SELECT last_value FROM participations_seq),
+    COALESCE((SELECT MAX(participation_id) FROM participations), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS weekly_records_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('weekly_records_seq', GREATEST(
+    (SELECT last_value FROM weekly_records_seq),
+    COALESCE((SELECT MAX(record_id) FROM weekly_records), 0) + 50));
+
+ANALYZE;
@@ -0,0 +1,30 @@
+-- Ledger behind the MoneyTracker page. Every list endpoint filters on one column and sorts by
+-- date, so each filter gets a (column, date) index.
+CREATE TABLE IF NOT EXISTS transactions (
+    transaction_id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount         NUMERIC(15, 2) NOT NULL,
+    type           VARCHAR(20)    NOT NULL,
+    payment_method VARCHAR(20)    NOT NULL,
+    date           DATE           NOT NULL,
+    description    TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_date ON transactions (date, transaction_id);
+CREATE INDEX IF NOT EXISTS idx_transactions_type_date ON transactions (type, date);
+CREATE INDEX IF NOT EXISTS idx_transactions_payment_method_date ON transactions (payment_method, date);
+
+-- Single-row running totals, adjusted by TransactionService on every ledger write
+CREATE TABLE IF NOT EXISTS transaction_summary (
+    summary_id        INTEGER        PRIMARY KEY,
+    total_income      NUMERIC(17, 2) NOT NULL,
+    total_expense     NUMERIC(17, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL
+);
+
+INSERT INTO transaction_summary (summary_id, total_income, total_expense, transaction_count)
+SELECT 1,
+       COALESCE(SUM(CASE WHEN type = 'INCOME' THEN amount ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN type = 'EXPENSE' THEN amount ELSE 0 END), 0),
+       COUNT(*)
+FROM transactions
+ON CONFLICT (summary_id) DO NOTHING;
@@ -0,0 +1,14 @@
+-- Full-text search over books (BookRepository.searchRanked), replacing leading-wildcard LIKE scans.
+-- The 'simple' configuration does no stemming or stop-word removal, so Korean and English text is
+-- tokenized the same way; the application sends prefix queries (word:*) for partial words.
+-- Weights: title A, author B, description C.
+ALTER TABLE books ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(author, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_books_search_vector ON books USING GIN (search_vector);
+
+ANALYZE books;
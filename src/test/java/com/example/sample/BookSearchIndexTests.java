@@ -0,0 +1,61 @@
+package com.example.sample;
+
+import com.example.sample.model.Book;
+import com.example.sample.service.BookSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Fallback search used on databases without full-text support
+class BookSearchIndexTests {
+
+    private final BookSearchIndex index = new BookSearchIndex(List.of(
+            book(1, "Mere Christianity", "C. S. Lewis", "Talks on the basics of faith"),
+            book(2, "The Screwtape Letters", "C. S. Lewis", "Letters from a senior demon"),
+            book(3, "Letters to a Young Pastor", "Eugene Peterson", "Christianity lived out in a parish"),
+            book(4, "Knowing God", "J. I. Packer", null)));
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        Page<Book> page = index.search(BookSearchIndex.tokenize("christianity"), PageRequest.of(0, 10));
+
+        assertEquals(List.of(1, 3), ids(page));
+    }
+
+    @Test
+    void requiresEveryTokenAsPrefix() {
+        Page<Book> page = index.search(BookSearchIndex.tokenize("lew lett"), PageRequest.of(0, 10));
+
+        assertEquals(List.of(2), ids(page));
+    }
+
+    @Test
+    void pagesRankedResults() {
+        Page<Book> first = index.search(BookSearchIndex.tokenize("letters"), PageRequest.of(0, 1));
+        Page<Book> second = index.search(BookSearchIndex.tokenize("letters"), PageRequest.of(1, 1));
+
+        assertEquals(2, first.getTotalElements());
+        assertEquals(List.of(2), ids(first));
+        assertEquals(List.of(3), ids(second));
+    }
+
+    @Test
+    void returnsEmptyPageWhenNothingMatches() {
+        assertTrue(index.search(BookSearchIndex.tokenize("calvin"), PageRequest.of(0, 10)).isEmpty());
+    }
+
+    private static Book book(int id, String title, String author, String description) {
+        Book book = new Book(title, author, description);
+        book.setBookId(id);
+        return book;
+    }
+
+    private static List<Integer> ids(Page<Book> page) {
+        return page.getContent().stream().map(Book::getBookId).toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.sample;
+
+import com.example.sample.security.FixedCostBCryptPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Rehash-on-login policy: only hashes at another cost (or with the old "{bcrypt}" prefix) are
+// rewritten, so the plain cost-10 hashes already in the database cost one BCrypt run per login.
+class FixedCostBCryptPasswordEncoderTests {
+
+    private final FixedCostBCryptPasswordEncoder encoder = new FixedCostBCryptPasswordEncoder(10);
+
+    @Test
+    void existingHashAtConfiguredCostIsKept() {
+        String stored = BCrypt.hashpw("password123", BCrypt.gensalt(10));
+
+        assertTrue(encoder.matches("password123", stored));
+        assertFalse(encoder.upgradeEncoding(stored));
+    }
+
+    @Test
+    void hashAtAnotherCostIsUpgraded() {
+        assertTrue(encoder.upgradeEncoding(BCrypt.hashpw("password123", BCrypt.gensalt(12))));
+        assertTrue(encoder.upgradeEncoding(BCrypt.hashpw("password123", BCrypt.gensalt(4))));
+    }
+
+    @Test
+    void newHashesHaveNoIdPrefix() {
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoded.startsWith("$2a$10$"));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void prefixedHashStillMatchesAndIsRewritten() {
+        String prefixed = "{bcrypt}" + BCrypt.hashpw("password123", BCrypt.gensalt(10));
+
+        assertTrue(encoder.matches("password123", prefixed));
+        assertTrue(encoder.upgradeEncoding(prefixed));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.sample;
+
+import com.example.sample.model.Book;
+import com.example.sample.repository.BookRepository;
+import com.example.sample.service.BookSearchService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Production schema path: Flyway migrates an empty PostgreSQL database and Hibernate validates the
+// entities against it (ddl-auto=validate). The migrations use PostgreSQL-only SQL (tsvector,
+// setval), so this runs on a real PostgreSQL container and is skipped when Docker is unavailable.
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTests {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookSearchService bookSearchService;
+
+    @Test
+    void allMigrationsApplyAndEntitiesValidate() {
+        // The context only starts if validate found no mismatch between entities and schema
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(4, flyway.info().applied().length);
+    }
+
+    @Test
+    void rankedSearchUsesTheMigratedSearchVector() {
+        Book book = bookRepository.save(new Book("Knowing God", "J. I. Packer", "On the attributes of God"));
+
+        List<Integer> ids = bookSearchService.search("packer", 0, 10).getContent().stream()
+                .map(Book::getBookId)
+                .toList();
+
+        assertEquals(List.of(book.getBookId()), ids);
+    }
+}
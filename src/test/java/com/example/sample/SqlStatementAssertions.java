@@ -0,0 +1,26 @@
+package com.example.sample;
+
+import com.example.sample.config.SqlStatementCounter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Fails when the action issues more SQL statements than allowed. The counter is thread-local,
+// so this works for MockMvc calls, which run the request on the test thread.
+public final class SqlStatementAssertions {
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, Action<T> action) throws Exception {
+        SqlStatementCounter.reset();
+        T result = action.run();
+        int statements = SqlStatementCounter.current();
+        assertTrue(statements <= max, "Expected at most " + max + " SQL statements but " + statements + " were issued");
+        return result;
+    }
+}
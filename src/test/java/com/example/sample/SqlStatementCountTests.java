@@ -0,0 +1,118 @@
+package com.example.sample;
+
+import com.example.sample.model.*;
+import com.example.sample.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.sample.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Statement budgets for the participation read paths. Budgets are fixed while the seeded
+// data has many rows, so an N+1 load (one query per row) fails these tests. Budgets count every
+// statement of the request, security filters included (JWT auth issues none).
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class SqlStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private SemesterRepository semesterRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    private Semester semester;
+    private Person person;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // DataInitializer has created the admin, 3 persons, 2 groups and 2 semesters
+        semester = semesterRepository.findAll().get(0);
+        person = personRepository.findAll().get(0);
+        Group group = groupRepository.findAll().get(0);
+
+        if (participationRepository.count() == 0) {
+            List<Participation> participations = new ArrayList<>();
+            for (Person p : personRepository.findAll()) {
+                for (int week = 1; week <= 10; week++) {
+                    Participation participation = new Participation("ontime");
+                    participation.setSemester(semester);
+                    participation.setGroup(group);
+                    participation.setPerson(p);
+                    participation.setParticipationDate(semester.getSdate().plusWeeks(week - 1));
+                    WeeklyRecord record = new WeeklyRecord(week, "ontime", "ontime", true, true, 6, 35, 7, 4);
+                    record.setParticipation(participation);
+                    participation.setWeeklyRecord(record);
+                    participations.add(participation);
+                }
+            }
+            participationRepository.saveAll(participations);
+        }
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        adminToken = objectMapper.readTree(body).get("token").asText();
+    }
+
+    @Test
+    void participationsBySemesterUseOneQuery() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/participations/semester/" + semester.getSemesterId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void participationSearchUsesPageAndCountQueries() throws Exception {
+        assertMaxStatements(2, () -> mockMvc.perform(get("/api/admin/participations/search")
+                        .param("semesterId", semester.getSemesterId().toString())
+                        .param("startDate", "2000-01-01")
+                        .param("endDate", "2100-01-01")
+                        .param("size", "5")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void userParticipationsDoNotLoadPerRow() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/user/" + person.getPersonId() + "/participations")
+                        .param("semesterId", semester.getSemesterId().toString())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void userSemestersDoNotLoadPerRow() throws Exception {
+        assertMaxStatements(2, () -> mockMvc.perform(get("/api/user/" + person.getPersonId() + "/semesters")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.sample;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Auth is stateless JWT: no request and no background job may touch the spring_session tables.
+// SQL is captured at the JDBC level per request thread, because Spring Session JDBC issues its
+// statements through JdbcTemplate, which Hibernate's StatementInspector (SqlStatementCounter)
+// never sees. Guards against spring-session-jdbc coming back onto the default classpath.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class StatelessSessionTests {
+
+    // MockMvc runs each request on the test thread, so this holds exactly that request's SQL
+    private static final ThreadLocal<List<String>> EXECUTED_SQL = ThreadLocal.withInitial(ArrayList::new);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        EXECUTED_SQL.get().clear();
+    }
+
+    @Test
+    void memberLoginIssuesNoSessionSql() throws Exception {
+        mockMvc.perform(post("/api/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"John Doe\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk());
+
+        // The person lookup must show up, otherwise the capture is not wired
+        assertFalse(EXECUTED_SQL.get().isEmpty(), "SQL capture is not wired");
+        assertNoSessionSql();
+    }
+
+    @Test
+    void adminLoginAndAuthenticatedRequestIssueNoSessionSql() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertFalse(EXECUTED_SQL.get().isEmpty(), "SQL capture is not wired");
+        assertNoSessionSql();
+
+        EXECUTED_SQL.get().clear();
+        String token = objectMapper.readTree(body).get("token").asText();
+        mockMvc.perform(get("/api/admin/semesters").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertNoSessionSql();
+    }
+
+    @Test
+    void noSessionCleanupJobIsScheduled() {
+        for (ScheduledTaskHolder holder : applicationContext.getBeansOfType(ScheduledTaskHolder.class).values()) {
+            for (ScheduledTask task : holder.getScheduledTasks()) {
+                Runnable runnable = task.getTask().getRunnable();
+                String source = runnable instanceof ScheduledMethodRunnable method
+                        ? method.getTarget().getClass().getName()
+                        : runnable.getClass().getName();
+                assertFalse(source.startsWith("org.springframework.session"), "Session job scheduled: " + source);
+            }
+        }
+    }
+
+    private static void assertNoSessionSql() {
+        List<String> sql = EXECUTED_SQL.get();
+        assertTrue(sql.stream().noneMatch(statement -> statement.toLowerCase(Locale.ROOT).contains("spring_session")),
+                "Session table SQL was issued: " + sql);
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new SqlCapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // Records the SQL given to prepareStatement/prepareCall and to plain Statement execute calls
+    static class SqlCapturingDataSource extends DelegatingDataSource {
+
+        SqlCapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capture(super.getConnection(), Connection.class);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capture(super.getConnection(username, password), Connection.class);
+        }
+
+        private static <T> T capture(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if ((name.startsWith("prepare") || name.startsWith("execute") || name.equals("addBatch"))
+                                && args != null && args.length > 0 && args[0] instanceof String sql) {
+                            EXECUTED_SQL.get().add(sql);
+                        }
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                        return result instanceof Statement statement && name.equals("createStatement")
+                                ? capture(statement, Statement.class) : result;
+                    }));
+        }
+    }
+}
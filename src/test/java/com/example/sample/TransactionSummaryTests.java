@@ -0,0 +1,89 @@
+package com.example.sample;
+
+import com.example.sample.model.Transaction;
+import com.example.sample.model.TransactionSummary;
+import com.example.sample.repository.TransactionRepository;
+import com.example.sample.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The running summary must always equal a full recomputation over the ledger, whatever mix of
+// writes produced it. Compared with compareTo because the two sides can differ in scale.
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionSummaryTests {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void summaryFollowsCreateUpdateDeleteAndRebuild() {
+        Transaction income = transactionService.createTransaction(transaction("120.00", "INCOME"));
+        Transaction expense = transactionService.createTransaction(transaction("45.50", "EXPENSE"));
+        assertSummaryMatchesLedger();
+
+        transactionService.updateTransaction(income.getTransactionId(), transaction("80.00", null));
+        assertSummaryMatchesLedger();
+
+        // Changing the type moves the amount from one total to the other
+        transactionService.updateTransaction(expense.getTransactionId(), transaction(null, "INCOME"));
+        assertSummaryMatchesLedger();
+
+        transactionService.deleteTransaction(income.getTransactionId());
+        assertSummaryMatchesLedger();
+
+        transactionService.rebuildSummary();
+        assertSummaryMatchesLedger();
+    }
+
+    @Test
+    void concurrentUpdatesOfOneRowDoNotDrift() throws Exception {
+        Integer id = transactionService.createTransaction(transaction("10.00", "EXPENSE")).getTransactionId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> updates = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                String amount = i + ".00";
+                String type = i % 2 == 0 ? "INCOME" : "EXPENSE";
+                updates.add(executor.submit(() -> transactionService.updateTransaction(id, transaction(amount, type))));
+            }
+            for (Future<?> update : updates) {
+                update.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertSummaryMatchesLedger();
+    }
+
+    private void assertSummaryMatchesLedger() {
+        TransactionSummary summary = transactionService.getSummary();
+        Object[] totals = transactionRepository.computeTotals().get(0);
+
+        assertEquals(0, new BigDecimal(totals[0].toString()).compareTo(summary.getTotalIncome()), "total income");
+        assertEquals(0, new BigDecimal(totals[1].toString()).compareTo(summary.getTotalExpense()), "total expense");
+        assertEquals(((Number) totals[2]).longValue(), summary.getTransactionCount(), "transaction count");
+    }
+
+    private static Transaction transaction(String amount, String type) {
+        return new Transaction(amount != null ? new BigDecimal(amount) : null, type,
+                type != null ? "CARD" : null, type != null ? LocalDate.of(2026, 3, 1) : null, null);
+    }
+}